@@ -1,6 +1,7 @@
 package com.luiz.helpdesk.application.ports.in;
 
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.TokenClaims;
 import com.luiz.helpdesk.infrastructure.adapters.out.config.CustomUserDetails;
 
 public interface AuthenticationUseCasePort {
@@ -8,4 +9,6 @@ public interface AuthenticationUseCasePort {
     String generateToken(Person person);
     CustomUserDetails getAuthenticatedUser();
     String refreshToken(String oldToken);
+    String refreshToken(TokenClaims verifiedClaims);
+    void logout(TokenClaims verifiedClaims);
 }
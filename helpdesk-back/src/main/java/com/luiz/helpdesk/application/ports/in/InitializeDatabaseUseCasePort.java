@@ -1,5 +1,8 @@
 package com.luiz.helpdesk.application.ports.in;
 
+import com.luiz.helpdesk.domain.model.DatasetGenerationReport;
+import com.luiz.helpdesk.domain.model.SyntheticDataset;
+
 public interface InitializeDatabaseUseCasePort {
-    void initializeDatabase();
-}
+    DatasetGenerationReport initializeDatabase(SyntheticDataset dataset);
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.luiz.helpdesk.application.ports.in;
+
+import com.luiz.helpdesk.domain.model.PersonImportProgress;
+import com.luiz.helpdesk.domain.model.PersonImportResult;
+import com.luiz.helpdesk.domain.model.PersonImportRow;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface PersonImportUseCasePort {
+
+    PersonImportProgress importPersons(Iterator<PersonImportRow> rows, int chunkSize,
+                                       Consumer<PersonImportResult> resultConsumer,
+                                       Consumer<PersonImportProgress> progressConsumer);
+}
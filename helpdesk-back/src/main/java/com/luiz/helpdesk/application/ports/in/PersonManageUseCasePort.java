@@ -3,11 +3,15 @@ package com.luiz.helpdesk.application.ports.in;
 import com.luiz.helpdesk.domain.exception.auth.UnauthorizedException;
 import com.luiz.helpdesk.domain.exception.person.InvalidPasswordException;
 import com.luiz.helpdesk.domain.exception.person.PersonNotFoundException;
+import com.luiz.helpdesk.domain.model.CursorPagination;
 import com.luiz.helpdesk.domain.model.Pagination;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonFieldSelection;
+import com.luiz.helpdesk.domain.model.SlicePagination;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PersonManageUseCasePort {
 
@@ -21,6 +25,14 @@ public interface PersonManageUseCasePort {
 
     Pagination<Person> getAllPersonsWithFilters(Pagination<?> pagination, String sortBy, String sortDirection, Map<String, String> filters);
 
+    Pagination<Map<String, Object>> getPersonFieldsWithFilters(Pagination<?> pagination, PersonFieldSelection selection, Map<String, String> filters);
+
+    long exportPersons(Map<String, String> filters, Consumer<Person> action);
+
+    SlicePagination<Person> getPersonSliceWithFilters(Pagination<?> pagination, Map<String, String> filters);
+
+    CursorPagination<Person> getAllPersonsWithCursor(String cursor, int pageSize, Map<String, String> filters);
+
     Optional<Person> getPersonById(Integer id);
 
     boolean deletePerson(Integer id);
@@ -29,6 +41,10 @@ public interface PersonManageUseCasePort {
 
     Person findPersonByEmail(String email) throws PersonNotFoundException;
 
+    Person findPersonWithoutAddressByEmail(String email) throws PersonNotFoundException;
+
+    boolean mightExistPersonByEmail(String email);
+
     boolean existsPersonById(Integer id);
 
     boolean existsPersonByCpfAndIdNot(String cpf, Integer id);
@@ -44,4 +60,6 @@ public interface PersonManageUseCasePort {
     boolean verifyPassword(String email, String password) throws Exception;
 
     Person encodePassword(Person person) throws Exception;
+
+    void upgradePasswordHash(Integer id, String rawPassword);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.luiz.helpdesk.application.ports.out;
+
+import com.luiz.helpdesk.domain.model.ChangeEvent;
+
+public interface ChangeEventPort {
+
+    void publishAfterCommit(ChangeEvent event);
+}
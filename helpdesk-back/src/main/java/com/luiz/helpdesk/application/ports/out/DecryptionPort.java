@@ -1,6 +1,10 @@
 package com.luiz.helpdesk.application.ports.out;
 
+import java.util.List;
+
 public interface DecryptionPort {
 
     String decrypt(String encryptedData) throws Exception;
-}
\ No newline at end of file
+
+    List<String> decrypt(List<String> encryptedData) throws Exception;
+}
@@ -1,14 +1,21 @@
 package com.luiz.helpdesk.application.ports.out;
 
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.TokenClaims;
+
+import java.util.Optional;
 
 public interface JwtTokenProviderPort {
 
     String createToken(Person person);
 
+    String createToken(TokenClaims claims);
+
+    Optional<TokenClaims> parseVerified(String token);
+
     String getEmailFromToken(String token);
 
     boolean validateToken(String token);
 
     String getThemeFromToken(String token);
-}
\ No newline at end of file
+}
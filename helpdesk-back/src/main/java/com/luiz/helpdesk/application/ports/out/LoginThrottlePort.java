@@ -0,0 +1,8 @@
+package com.luiz.helpdesk.application.ports.out;
+
+public interface LoginThrottlePort {
+
+    void acquire(String email, String remoteAddress);
+
+    void reset(String email);
+}
@@ -1,7 +1,13 @@
 package com.luiz.helpdesk.application.ports.out;
 
+import java.util.List;
+
 public interface PasswordEncoderPort {
     String encode(String rawPassword);
 
+    List<String> encodeAll(List<String> rawPasswords);
+
     boolean matches(String rawPassword, String encodedPassword);
+
+    boolean upgradeEncoding(String encodedPassword);
 }
@@ -1,15 +1,24 @@
 package com.luiz.helpdesk.application.ports.out;
 
+import com.luiz.helpdesk.domain.model.CursorPagination;
 import com.luiz.helpdesk.domain.model.Pagination;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonFieldSelection;
+import com.luiz.helpdesk.domain.model.PersonUniqueKeys;
+import com.luiz.helpdesk.domain.model.SlicePagination;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface PersonPersistenceOutputPort {
 
     Person save(Person person);
 
+    List<Person> saveAll(List<Person> persons);
+
     Person update(Person person);
 
     Optional<Person> findById(Integer id);
@@ -20,8 +29,14 @@ public interface PersonPersistenceOutputPort {
 
     Optional<Person> findByEmail(String email);
 
+    Optional<Person> findByEmailWithoutAddress(String email);
+
+    boolean mightExistByEmail(String email);
+
     boolean existsById(Integer id);
 
+    PersonUniqueKeys findExistingUniqueKeys(Set<String> cpfKeys, Set<String> emailKeys);
+
     boolean existsByCpfAndIdNot(String cpf, Integer id);
 
     boolean existsByEmailAndIdNot(String email, Integer id);
@@ -30,9 +45,19 @@ public interface PersonPersistenceOutputPort {
 
     Pagination<Person> getAllPersonsWithFilters(Pagination<?> pagination, String sortBy, String sortDirection, Map<String, String> filters);
 
+    Pagination<Map<String, Object>> getPersonFieldsWithFilters(Pagination<?> pagination, PersonFieldSelection selection, String sortBy, String sortDirection, Map<String, String> filters);
+
+    long forEachPersonWithFilters(String sortBy, String sortDirection, Map<String, String> filters, Consumer<Person> action);
+
+    SlicePagination<Person> getPersonSliceWithFilters(Pagination<?> pagination, String sortBy, String sortDirection, Map<String, String> filters);
+
+    CursorPagination<Person> getPersonsAfterCursor(String cursor, int pageSize, String sortBy, String sortDirection, Map<String, String> filters);
+
     Optional<Person> findByEmailAndIdNot(String email, Integer id);
 
     Person getCurrentUser(Integer id);
 
     Person updateCurrentUser(Integer id, Person updatedPerson, String encryptedCurrentPassword, String newPassword) throws Exception;
+
+    void updatePassword(Integer id, String encodedPassword);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.luiz.helpdesk.application.ports.out;
+
+public interface SecurityVersionPort {
+
+    long currentVersion(Integer personId);
+
+    boolean isCurrent(Integer personId, Long version);
+
+    void invalidate(Integer personId);
+}
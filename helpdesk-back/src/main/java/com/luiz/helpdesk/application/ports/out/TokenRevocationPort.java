@@ -0,0 +1,10 @@
+package com.luiz.helpdesk.application.ports.out;
+
+import java.time.Instant;
+
+public interface TokenRevocationPort {
+
+    void revoke(String tokenId, Instant expiration);
+
+    boolean isRevoked(String tokenId);
+}
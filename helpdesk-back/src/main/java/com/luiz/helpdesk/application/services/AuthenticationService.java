@@ -4,27 +4,40 @@ import com.luiz.helpdesk.application.ports.in.AuthenticationUseCasePort;
 import com.luiz.helpdesk.application.ports.in.PersonManageUseCasePort;
 import com.luiz.helpdesk.application.ports.out.JwtTokenProviderPort;
 import com.luiz.helpdesk.application.ports.out.PasswordEncoderPort;
+import com.luiz.helpdesk.application.ports.out.SecurityVersionPort;
+import com.luiz.helpdesk.application.ports.out.TokenRevocationPort;
 import com.luiz.helpdesk.domain.exception.person.PersonNotFoundException;
+import com.luiz.helpdesk.domain.exception.security.PasswordHashingUnavailableException;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.TokenClaims;
 import com.luiz.helpdesk.domain.validator.AuthenticationValidator;
 import com.luiz.helpdesk.infrastructure.adapters.out.config.CustomUserDetails;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Optional;
+
 @Service
 public class AuthenticationService implements AuthenticationUseCasePort {
 
     private final PersonManageUseCasePort personUseCase;
     private final PasswordEncoderPort passwordEncoder;
     private final JwtTokenProviderPort jwtTokenProvider;
+    private final SecurityVersionPort securityVersionPort;
+    private final TokenRevocationPort tokenRevocationPort;
 
     public AuthenticationService(PersonManageUseCasePort personUseCase,
                                  PasswordEncoderPort passwordEncoder,
-                                 JwtTokenProviderPort jwtTokenProvider) {
+                                 JwtTokenProviderPort jwtTokenProvider,
+                                 SecurityVersionPort securityVersionPort,
+                                 TokenRevocationPort tokenRevocationPort) {
         this.personUseCase = personUseCase;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.securityVersionPort = securityVersionPort;
+        this.tokenRevocationPort = tokenRevocationPort;
     }
 
     @Override
@@ -33,6 +46,7 @@ public class AuthenticationService implements AuthenticationUseCasePort {
         AuthenticationValidator.validatePasswordNotBlank(password);
         Person person = findPersonByEmail(email);
         AuthenticationValidator.validateCredentials(password, person.getPassword(), passwordEncoder);
+        upgradePasswordHash(person, password);
         return person;
     }
 
@@ -48,20 +62,61 @@ public class AuthenticationService implements AuthenticationUseCasePort {
 
     @Override
     public String refreshToken(String oldToken) {
-        AuthenticationValidator.validateToken(jwtTokenProvider.validateToken(oldToken));
-        String email = jwtTokenProvider.getEmailFromToken(oldToken);
-        Person person = findPersonByEmail(email);
+        Optional<TokenClaims> verifiedClaims = jwtTokenProvider.parseVerified(oldToken);
+        AuthenticationValidator.validateToken(verifiedClaims.isPresent());
+        return refreshToken(verifiedClaims.get());
+    }
+
+    @Override
+    public String refreshToken(TokenClaims verifiedClaims) {
+        AuthenticationValidator.validateToken(verifiedClaims != null
+                && !verifiedClaims.isExpiredAt(Instant.now())
+                && !tokenRevocationPort.isRevoked(verifiedClaims.tokenId()));
+        if (canReissueFromClaims(verifiedClaims)) {
+            return jwtTokenProvider.createToken(verifiedClaims);
+        }
+        Person person = findPersonByEmail(verifiedClaims.email());
         return jwtTokenProvider.createToken(person);
     }
 
+    @Override
+    public void logout(TokenClaims verifiedClaims) {
+        if (verifiedClaims != null) {
+            tokenRevocationPort.revoke(verifiedClaims.tokenId(), verifiedClaims.expiration());
+        }
+    }
+
+    private boolean canReissueFromClaims(TokenClaims claims) {
+        return claims.id() != null
+                && claims.email() != null
+                && claims.name() != null
+                && claims.profile() != null
+                && claims.theme() != null
+                && securityVersionPort.isCurrent(claims.id(), claims.securityVersion());
+    }
+
     private Person findPersonByEmail(String email) {
+        if (!personUseCase.mightExistPersonByEmail(email)) {
+            throw new BadCredentialsException("E-mail ou senha inválidos");
+        }
         try {
-            return personUseCase.findPersonByEmail(email);
+            return personUseCase.findPersonWithoutAddressByEmail(email);
         } catch (PersonNotFoundException e) {
             throw new BadCredentialsException("E-mail ou senha inválidos");
         }
     }
 
+    private void upgradePasswordHash(Person person, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(person.getPassword())) {
+            return;
+        }
+        try {
+            personUseCase.upgradePasswordHash(person.getId(), rawPassword);
+        } catch (PasswordHashingUnavailableException e) {
+            // the stored hash remains valid and is upgraded on a later login
+        }
+    }
+
     private void validateCredentials(String rawPassword, String encodedPassword) {
         if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
             throw new BadCredentialsException("E-mail ou senha inválidos");
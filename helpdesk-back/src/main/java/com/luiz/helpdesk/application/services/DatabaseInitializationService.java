@@ -8,16 +8,22 @@ import com.luiz.helpdesk.domain.enums.Profile;
 import com.luiz.helpdesk.domain.enums.Theme;
 import com.luiz.helpdesk.domain.factory.AddressFactory;
 import com.luiz.helpdesk.domain.factory.PersonFactory;
+import com.luiz.helpdesk.domain.factory.SyntheticPersonGenerator;
 import com.luiz.helpdesk.domain.factory.TokenTimeProfileFactory;
 import com.luiz.helpdesk.domain.model.Address;
+import com.luiz.helpdesk.domain.model.DatasetGenerationReport;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.SyntheticDataset;
 import com.luiz.helpdesk.domain.model.TokenTimeProfile;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Service
 public class DatabaseInitializationService implements InitializeDatabaseUseCasePort {
@@ -28,8 +34,6 @@ public class DatabaseInitializationService implements InitializeDatabaseUseCaseP
     private final PersonFactory personFactory;
     private final AddressFactory addressFactory;
     private final TokenTimeProfileFactory tokenTimeProfileFactory;
-    private final Set<String> usedEmails = new HashSet<>();
-    private final Set<String> usedCPFs = new HashSet<>();
 
     public DatabaseInitializationService(
             PersonPersistenceOutputPort personRepository,
@@ -48,11 +52,13 @@ public class DatabaseInitializationService implements InitializeDatabaseUseCaseP
     }
 
     @Override
-    @Transactional
-    public void initializeDatabase() {
+    public DatasetGenerationReport initializeDatabase(SyntheticDataset dataset) {
         createAdmin();
-        createRandomPeople();
+        long startedAt = System.currentTimeMillis();
+        long created = createSyntheticPeople(dataset);
+        DatasetGenerationReport report = new DatasetGenerationReport(created, System.currentTimeMillis() - startedAt);
         initializeTokenTimeProfiles();
+        return report;
     }
 
     private void createAdmin() {
@@ -78,108 +84,47 @@ public class DatabaseInitializationService implements InitializeDatabaseUseCaseP
                     .withAddress(address);
 
             personRepository.save(admin);
-
-            usedEmails.add("admin@mail.com");
-            usedCPFs.add("12345678900");
         }
     }
 
-    private void createRandomPeople() {
-        String encodedPassword = passwordEncoder.encode("password");
-        LocalDate creationDate = LocalDate.now();
-
-        for (int i = 0; i < 100; i++) {
-            Person person = createRandomPerson(encodedPassword, creationDate);
-            personRepository.save(person);
+    private long createSyntheticPeople(SyntheticDataset dataset) {
+        if (dataset.persons() > SyntheticPersonGenerator.MAX_PERSONS) {
+            throw new IllegalArgumentException("A quantidade de pessoas sintéticas não pode exceder " + SyntheticPersonGenerator.MAX_PERSONS);
         }
-    }
-
-    private Person createRandomPerson(String encodedPassword, LocalDate creationDate) {
-        Address address = generateRandomAddress();
-        String name = generateRandomName();
-        String email = generateUniqueEmail(name);
-        String cpf = generateUniqueCPF();
-        Integer randomTheme = getRandomTheme();
-
-        return personFactory.createPerson(name, cpf, email, encodedPassword,
-                        Profile.CLIENT.getCode(), creationDate, randomTheme)
-                .withAddress(address);
-    }
-
-    private Integer getRandomTheme() {
-        Theme[] themes = Theme.values();
-        return themes[new Random().nextInt(themes.length)].getCode();
-    }
-
-    private String generateUniqueCPF() {
-        String cpf;
-        do {
-            cpf = generateValidCPF();
-        } while (usedCPFs.contains(cpf));
-        usedCPFs.add(cpf);
-        return cpf;
-    }
-
-    private String generateValidCPF() {
-        Random random = new Random();
-        int[] cpf = new int[11];
-        for (int i = 0; i < 9; i++) {
-            cpf[i] = random.nextInt(10);
+        SyntheticPersonGenerator generator = new SyntheticPersonGenerator(dataset.seed(),
+                passwordEncoder.encode("password"), dataset.creationDate(), personFactory, addressFactory);
+        if (dataset.persons() == 0 || personRepository.existsByEmailAndIdNot(generator.generate(0).getEmail(), null)) {
+            return 0;
         }
-
-        for (int i = 9; i < 11; i++) {
-            int sum = 0;
-            int weight = i + 1;
-            for (int j = 0; j < i; j++) {
-                sum += cpf[j] * weight;
-                weight--;
+        ExecutorService executor = Executors.newFixedThreadPool(dataset.effectiveThreads());
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long start = 0; start < dataset.persons(); start += dataset.chunkSize()) {
+                long from = start;
+                long to = Math.min(start + dataset.chunkSize(), dataset.persons());
+                chunks.add(executor.submit(() -> saveChunk(generator, from, to)));
+            }
+            long created = 0;
+            for (Future<Integer> chunk : chunks) {
+                created += chunk.get();
             }
-            int digit = 11 - (sum % 11);
-            cpf[i] = (digit > 9) ? 0 : digit;
+            return created;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Geração de pessoas sintéticas interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao gerar pessoas sintéticas", e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
-
-        return String.format("%d%d%d.%d%d%d.%d%d%d-%d%d",
-                cpf[0], cpf[1], cpf[2], cpf[3], cpf[4], cpf[5], cpf[6], cpf[7], cpf[8], cpf[9], cpf[10]);
     }
 
-    private String generateRandomName() {
-        String[] firstNames = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
-                "William", "Elizabeth", "David", "Barbara", "Richard", "Margaret", "Joseph", "Susan"};
-        String[] lastNames = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
-                "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas"};
-
-        Random random = new Random();
-        return firstNames[random.nextInt(firstNames.length)] + " " + lastNames[random.nextInt(lastNames.length)];
-    }
-
-    private String generateUniqueEmail(String name) {
-        String baseEmail = name.toLowerCase().replace(" ", ".");
-        String email = baseEmail + "@email.com";
-        int suffix = 1;
-        while (usedEmails.contains(email)) {
-            email = baseEmail + suffix + "@email.com";
-            suffix++;
+    private int saveChunk(SyntheticPersonGenerator generator, long from, long to) {
+        List<Person> persons = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            persons.add(generator.generate(index));
         }
-        usedEmails.add(email);
-        return email;
-    }
-
-    private Address generateRandomAddress() {
-        String[] streets = {"Oak", "Maple", "Cedar", "Pine", "Elm", "Birch", "Willow", "Walnut", "Cherry", "Spruce"};
-        String[] cities = {"Springfield", "Rivertown", "Lakeside", "Hillview", "Meadowbrook", "Sunnyville",
-                "Fairview", "Greenville", "Brookside", "Millbrook"};
-        String[] states = {"CA", "NY", "TX", "FL", "IL", "PA", "OH", "GA", "NC", "MI"};
-
-        Random random = new Random();
-        return addressFactory.createAddress(
-                streets[random.nextInt(streets.length)] + " Street",
-                String.valueOf(random.nextInt(1000) + 1),
-                "Neighborhood " + (random.nextInt(10) + 1),
-                cities[random.nextInt(cities.length)],
-                states[random.nextInt(states.length)],
-                String.format("%05d-%03d", random.nextInt(100000), random.nextInt(1000)),
-                String.valueOf(random.nextInt(1000) + 1)
-        );
+        return personRepository.saveAll(persons).size();
     }
 
     private void initializeTokenTimeProfiles() {
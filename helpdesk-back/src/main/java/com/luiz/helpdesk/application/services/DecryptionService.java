@@ -5,6 +5,8 @@ import com.luiz.helpdesk.infrastructure.adapters.out.config.security.DecryptionA
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class DecryptionService implements DecryptionPort {
 
@@ -19,4 +21,9 @@ public class DecryptionService implements DecryptionPort {
     public String decrypt(String encryptedData) throws Exception {
         return decryptionAdapter.decrypt(encryptedData);
     }
+
+    @Override
+    public List<String> decrypt(List<String> encryptedData) throws Exception {
+        return decryptionAdapter.decrypt(encryptedData);
+    }
 }
\ No newline at end of file
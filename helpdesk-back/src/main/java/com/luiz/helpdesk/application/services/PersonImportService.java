@@ -0,0 +1,149 @@
+package com.luiz.helpdesk.application.services;
+
+import com.luiz.helpdesk.application.ports.in.PersonImportUseCasePort;
+import com.luiz.helpdesk.application.ports.out.ChangeEventPort;
+import com.luiz.helpdesk.application.ports.out.DecryptionPort;
+import com.luiz.helpdesk.application.ports.out.PasswordEncoderPort;
+import com.luiz.helpdesk.application.ports.out.PersonPersistenceOutputPort;
+import com.luiz.helpdesk.domain.model.ChangeEvent;
+import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonImportProgress;
+import com.luiz.helpdesk.domain.model.PersonImportResult;
+import com.luiz.helpdesk.domain.model.PersonImportRow;
+import com.luiz.helpdesk.domain.model.PersonUniqueKeys;
+import com.luiz.helpdesk.domain.validator.PersonValidator;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+public class PersonImportService implements PersonImportUseCasePort {
+
+    private final PersonPersistenceOutputPort personRepository;
+    private final PasswordEncoderPort passwordEncoder;
+    private final DecryptionPort decryptionService;
+    private final ChangeEventPort changeEventPort;
+
+    public PersonImportService(PersonPersistenceOutputPort personRepository,
+                               @Lazy PasswordEncoderPort passwordEncoder,
+                               DecryptionPort decryptionService,
+                               ChangeEventPort changeEventPort) {
+        this.personRepository = personRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.decryptionService = decryptionService;
+        this.changeEventPort = changeEventPort;
+    }
+
+    @Override
+    public PersonImportProgress importPersons(Iterator<PersonImportRow> rows, int chunkSize,
+                                              Consumer<PersonImportResult> resultConsumer,
+                                              Consumer<PersonImportProgress> progressConsumer) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser maior que zero");
+        }
+        PersonImportProgress progress = PersonImportProgress.empty();
+        Set<String> importedCpfs = new HashSet<>();
+        Set<String> importedEmails = new HashSet<>();
+        List<PersonImportRow> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize || !rows.hasNext()) {
+                for (PersonImportResult result : importChunk(chunk, importedCpfs, importedEmails)) {
+                    progress = progress.add(result);
+                    resultConsumer.accept(result);
+                }
+                progressConsumer.accept(progress);
+                chunk.clear();
+            }
+        }
+        return progress;
+    }
+
+    private List<PersonImportResult> importChunk(List<PersonImportRow> chunk, Set<String> importedCpfs, Set<String> importedEmails) {
+        PersonImportResult[] results = new PersonImportResult[chunk.size()];
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> cpfKeys = new HashSet<>();
+        Set<String> emailKeys = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            PersonImportRow row = chunk.get(i);
+            if (!row.isValid()) {
+                results[i] = PersonImportResult.rejected(row.rowNumber(), List.of(row.error()));
+                continue;
+            }
+            List<String> errors = PersonValidator.validateForBulkCreation(row.person());
+            if (!errors.isEmpty()) {
+                results[i] = PersonImportResult.rejected(row.rowNumber(), errors);
+                continue;
+            }
+            candidates.add(i);
+            cpfKeys.add(row.person().getCpfKey());
+            emailKeys.add(row.person().getEmailKey());
+        }
+
+        PersonUniqueKeys existingKeys = personRepository.findExistingUniqueKeys(cpfKeys, emailKeys);
+        List<Integer> accepted = new ArrayList<>();
+        List<String> rawPasswords = new ArrayList<>();
+        for (Integer index : candidates) {
+            PersonImportRow row = chunk.get(index);
+            Person person = row.person();
+            List<String> errors = new ArrayList<>();
+            if (existingKeys.containsCpf(person.getCpfKey()) || importedCpfs.contains(person.getCpfKey())) {
+                errors.add("Já existe uma pessoa com CPF " + person.getCpf());
+            }
+            if (existingKeys.containsEmail(person.getEmailKey()) || importedEmails.contains(person.getEmailKey())) {
+                errors.add("Já existe uma pessoa com e-mail " + person.getEmail());
+            }
+            String rawPassword = null;
+            if (errors.isEmpty()) {
+                try {
+                    rawPassword = decryptionService.decrypt(person.getPassword());
+                } catch (Exception e) {
+                    errors.add("Não foi possível descriptografar a senha");
+                }
+            }
+            if (!errors.isEmpty()) {
+                results[index] = PersonImportResult.rejected(row.rowNumber(), errors);
+                continue;
+            }
+            importedCpfs.add(person.getCpfKey());
+            importedEmails.add(person.getEmailKey());
+            accepted.add(index);
+            rawPasswords.add(rawPassword);
+        }
+
+        if (!accepted.isEmpty()) {
+            saveAccepted(chunk, accepted, rawPasswords, results, importedCpfs, importedEmails);
+        }
+        return List.of(results);
+    }
+
+    private void saveAccepted(List<PersonImportRow> chunk, List<Integer> accepted, List<String> rawPasswords,
+                              PersonImportResult[] results, Set<String> importedCpfs, Set<String> importedEmails) {
+        try {
+            List<String> encodedPasswords = passwordEncoder.encodeAll(rawPasswords);
+            List<Person> persons = new ArrayList<>(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                persons.add(chunk.get(accepted.get(i)).person().withPassword(encodedPasswords.get(i)));
+            }
+            List<Person> saved = personRepository.saveAll(persons);
+            for (int i = 0; i < accepted.size(); i++) {
+                int index = accepted.get(i);
+                results[index] = PersonImportResult.created(chunk.get(index).rowNumber(), saved.get(i).getId());
+            }
+            changeEventPort.publishAfterCommit(ChangeEvent.of("person", "imported", null));
+        } catch (RuntimeException e) {
+            for (Integer index : accepted) {
+                Person person = chunk.get(index).person();
+                importedCpfs.remove(person.getCpfKey());
+                importedEmails.remove(person.getEmailKey());
+                results[index] = PersonImportResult.failed(chunk.get(index).rowNumber(), "Falha ao gravar o lote: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -2,22 +2,31 @@ package com.luiz.helpdesk.application.services;
 
 import com.luiz.helpdesk.application.ports.in.AuthenticationUseCasePort;
 import com.luiz.helpdesk.application.ports.in.PersonManageUseCasePort;
+import com.luiz.helpdesk.application.ports.out.ChangeEventPort;
 import com.luiz.helpdesk.application.ports.out.DecryptionPort;
 import com.luiz.helpdesk.application.ports.out.PasswordEncoderPort;
 import com.luiz.helpdesk.application.ports.out.PersonPersistenceOutputPort;
+import com.luiz.helpdesk.application.ports.out.SecurityVersionPort;
 import com.luiz.helpdesk.domain.exception.auth.UnauthorizedException;
 import com.luiz.helpdesk.domain.exception.person.PersonNotFoundException;
+import com.luiz.helpdesk.domain.model.ChangeEvent;
+import com.luiz.helpdesk.domain.model.CursorPagination;
 import com.luiz.helpdesk.domain.model.Pagination;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonFieldSelection;
+import com.luiz.helpdesk.domain.model.SlicePagination;
 import com.luiz.helpdesk.domain.validator.PersonValidator;
 import com.luiz.helpdesk.infrastructure.adapters.out.config.CustomUserDetails;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class PersonManageService implements PersonManageUseCasePort {
@@ -26,15 +35,21 @@ public class PersonManageService implements PersonManageUseCasePort {
     private final AuthenticationUseCasePort authenticationUseCasePort;
     private final PasswordEncoderPort passwordEncoder;
     private final DecryptionPort decryptionService;
+    private final SecurityVersionPort securityVersionPort;
+    private final ChangeEventPort changeEventPort;
 
     public PersonManageService(PersonPersistenceOutputPort personRepository,
                                @Lazy AuthenticationUseCasePort authenticationUseCasePort,
                                @Lazy PasswordEncoderPort passwordEncoder,
-                               DecryptionPort decryptionService) {
+                               DecryptionPort decryptionService,
+                               SecurityVersionPort securityVersionPort,
+                               ChangeEventPort changeEventPort) {
         this.personRepository = personRepository;
         this.authenticationUseCasePort = authenticationUseCasePort;
         this.passwordEncoder = passwordEncoder;
         this.decryptionService = decryptionService;
+        this.securityVersionPort = securityVersionPort;
+        this.changeEventPort = changeEventPort;
     }
 
     @Override
@@ -42,7 +57,9 @@ public class PersonManageService implements PersonManageUseCasePort {
     public Person createPerson(Person person) throws Exception {
         PersonValidator.validateCpfAndPassword(person.getCpf(), person.getPassword());
         PersonValidator.validateForCreation(person, personRepository);
-        return personRepository.save(encodePassword(person));
+        Person created = personRepository.save(encodePassword(person));
+        publishPersonEvent("created", created.getId());
+        return created;
     }
 
     @Override
@@ -51,6 +68,8 @@ public class PersonManageService implements PersonManageUseCasePort {
         Person existingPerson = getExistingPerson(id);
         PersonValidator.validateForUpdate(updatedPerson, personRepository, existingPerson);
         Person personToUpdate = existingPerson.updateFieldsAndAddress(updatedPerson);
+        invalidateSecurityVersion(id);
+        publishPersonEvent("updated", id);
         return personRepository.update(encodePassword(personToUpdate));
     }
 
@@ -63,12 +82,8 @@ public class PersonManageService implements PersonManageUseCasePort {
     @Override
     @Transactional(readOnly = true)
     public Pagination<Person> getAllPersonsWithFilters(Pagination<?> pagination, Map<String, String> filters) {
-        String sortBy = filters.getOrDefault("sortBy", "id");
-        String sortDirection = filters.getOrDefault("sortDirection", "ASC");
-        Map<String, String> actualFilters = new HashMap<>(filters);
-        actualFilters.remove("sortBy");
-        actualFilters.remove("sortDirection");
-        return personRepository.getAllPersonsWithFilters(pagination, sortBy, sortDirection, actualFilters);
+        SortedFilters sorted = SortedFilters.of(filters);
+        return personRepository.getAllPersonsWithFilters(pagination, sorted.sortBy(), sorted.sortDirection(), sorted.filters());
     }
 
     @Override
@@ -77,6 +92,34 @@ public class PersonManageService implements PersonManageUseCasePort {
         return personRepository.getAllPersonsWithFilters(pagination, sortBy, sortDirection, filters);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Map<String, Object>> getPersonFieldsWithFilters(Pagination<?> pagination, PersonFieldSelection selection, Map<String, String> filters) {
+        SortedFilters sorted = SortedFilters.of(filters);
+        return personRepository.getPersonFieldsWithFilters(pagination, selection, sorted.sortBy(), sorted.sortDirection(), sorted.filters());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPersons(Map<String, String> filters, Consumer<Person> action) {
+        SortedFilters sorted = SortedFilters.of(filters);
+        return personRepository.forEachPersonWithFilters(sorted.sortBy(), sorted.sortDirection(), sorted.filters(), action);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SlicePagination<Person> getPersonSliceWithFilters(Pagination<?> pagination, Map<String, String> filters) {
+        SortedFilters sorted = SortedFilters.of(filters);
+        return personRepository.getPersonSliceWithFilters(pagination, sorted.sortBy(), sorted.sortDirection(), sorted.filters());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagination<Person> getAllPersonsWithCursor(String cursor, int pageSize, Map<String, String> filters) {
+        SortedFilters sorted = SortedFilters.of(filters);
+        return personRepository.getPersonsAfterCursor(cursor, pageSize, sorted.sortBy(), sorted.sortDirection(), sorted.filters());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Person> getPersonById(Integer id) {
@@ -89,6 +132,8 @@ public class PersonManageService implements PersonManageUseCasePort {
     public boolean deletePerson(Integer id) {
         PersonValidator.validateId(id);
         PersonValidator.validatePersonExists(personRepository, id);
+        invalidateSecurityVersion(id);
+        publishPersonEvent("deleted", id);
         return personRepository.deleteById(id);
     }
 
@@ -105,6 +150,17 @@ public class PersonManageService implements PersonManageUseCasePort {
         return PersonValidator.validateAndGetPersonByEmail(personRepository, email);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Person findPersonWithoutAddressByEmail(String email) throws PersonNotFoundException {
+        return PersonValidator.validateAndGetPersonWithoutAddressByEmail(personRepository, email);
+    }
+
+    @Override
+    public boolean mightExistPersonByEmail(String email) {
+        return personRepository.mightExistByEmail(email);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsPersonById(Integer id) {
@@ -124,6 +180,8 @@ public class PersonManageService implements PersonManageUseCasePort {
         PersonValidator.validateForCurrentUserUpdate(updatedPerson, decryptedCurrentPassword, decryptedNewPassword, existingPerson);
         Person personToUpdate = updatePersonFields(existingPerson, updatedPerson, decryptedNewPassword);
         String encodedNewPassword = encodeNewPassword(decryptedNewPassword);
+        invalidateSecurityVersion(userDetails.getId());
+        publishPersonEvent("updated", userDetails.getId());
 
         return personRepository.updateCurrentUser(userDetails.getId(), personToUpdate, decryptedCurrentPassword, encodedNewPassword);
     }
@@ -143,7 +201,7 @@ public class PersonManageService implements PersonManageUseCasePort {
     @Transactional(readOnly = true)
     public boolean verifyPassword(String email, String password) throws Exception {
         String decryptedPassword = decryptPassword(password);
-        return personRepository.findByEmail(email)
+        return personRepository.findByEmailWithoutAddress(email)
                 .map(person -> passwordEncoder.matches(decryptedPassword, person.getPassword()))
                 .orElseThrow(() -> new PersonNotFoundException("Pessoa não encontrada com o email: " + email));
     }
@@ -155,6 +213,13 @@ public class PersonManageService implements PersonManageUseCasePort {
         return person.withPassword(passwordEncoder.encode(decryptedPassword));
     }
 
+    @Override
+    @Transactional
+    public void upgradePasswordHash(Integer id, String rawPassword) {
+        PersonValidator.validateId(id);
+        personRepository.updatePassword(id, passwordEncoder.encode(rawPassword));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Person> findPersonByEmailAndIdNot(String email, Integer id) {
@@ -185,6 +250,22 @@ public class PersonManageService implements PersonManageUseCasePort {
         }
     }
 
+    private void invalidateSecurityVersion(Integer id) {
+        securityVersionPort.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    securityVersionPort.invalidate(id);
+                }
+            });
+        }
+    }
+
+    private void publishPersonEvent(String action, Integer id) {
+        changeEventPort.publishAfterCommit(ChangeEvent.of("person", action, id));
+    }
+
     private Person getExistingPerson(Integer id) {
         return personRepository.findById(id)
                 .orElseThrow(() -> new PersonNotFoundException("Pessoa não encontrada com id: " + id));
@@ -216,4 +297,14 @@ public class PersonManageService implements PersonManageUseCasePort {
                 ? passwordEncoder.encode(decryptedNewPassword)
                 : null;
     }
+
+    private record SortedFilters(String sortBy, String sortDirection, Map<String, String> filters) {
+
+        private static SortedFilters of(Map<String, String> requestFilters) {
+            Map<String, String> filters = new HashMap<>(requestFilters);
+            String sortBy = Optional.ofNullable(filters.remove("sortBy")).orElse("id");
+            String sortDirection = Optional.ofNullable(filters.remove("sortDirection")).orElse("ASC");
+            return new SortedFilters(sortBy, sortDirection, filters);
+        }
+    }
 }
\ No newline at end of file
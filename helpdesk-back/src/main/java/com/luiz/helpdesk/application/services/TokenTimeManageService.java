@@ -1,12 +1,14 @@
 package com.luiz.helpdesk.application.services;
 
 import com.luiz.helpdesk.application.ports.in.TokenTimeManagementUseCasePort;
+import com.luiz.helpdesk.application.ports.out.ChangeEventPort;
 import com.luiz.helpdesk.application.ports.out.TokenTimePersistenceOutputPort;
 import com.luiz.helpdesk.domain.enums.Profile;
 import com.luiz.helpdesk.domain.exception.profile.ProfileNotFoundException;
 import com.luiz.helpdesk.domain.exception.tokenTime.DuplicateProfileException;
 import com.luiz.helpdesk.domain.exception.tokenTime.TokenTimeUpdateException;
 import com.luiz.helpdesk.domain.exception.tokenTime.UnauthorizedAccessException;
+import com.luiz.helpdesk.domain.model.ChangeEvent;
 import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.TokenTimeProfileDTO;
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.TokenTimeUtil;
 import org.springframework.stereotype.Service;
@@ -19,9 +21,11 @@ import java.util.Optional;
 public class TokenTimeManageService implements TokenTimeManagementUseCasePort {
 
     private final TokenTimePersistenceOutputPort tokenTimeRepository;
+    private final ChangeEventPort changeEventPort;
 
-    public TokenTimeManageService(TokenTimePersistenceOutputPort tokenTimeRepository) {
+    public TokenTimeManageService(TokenTimePersistenceOutputPort tokenTimeRepository, ChangeEventPort changeEventPort) {
         this.tokenTimeRepository = tokenTimeRepository;
+        this.changeEventPort = changeEventPort;
     }
 
     @Override
@@ -32,7 +36,9 @@ public class TokenTimeManageService implements TokenTimeManagementUseCasePort {
                 tokenTimeProfileDTO,
                 () -> tokenTimeRepository.existsByProfile(tokenTimeProfileDTO.getProfileCode())
         );
-        return TokenTimeProfileDTO.fromDomainModel(tokenTimeRepository.saveTokenTime(tokenTimeProfileDTO.toDomainModel()));
+        TokenTimeProfileDTO created = TokenTimeProfileDTO.fromDomainModel(tokenTimeRepository.saveTokenTime(tokenTimeProfileDTO.toDomainModel()));
+        changeEventPort.publishAfterCommit(ChangeEvent.of("token-time", "created", created.getProfileCode()));
+        return created;
     }
 
     @Override
@@ -43,9 +49,11 @@ public class TokenTimeManageService implements TokenTimeManagementUseCasePort {
                 profileCode,
                 () -> tokenTimeRepository.existsByProfile(profileCode)
         );
-        return tokenTimeRepository.updateTokenTime(profileCode, tokenTimeProfileDTO.toDomainModel())
+        TokenTimeProfileDTO updated = tokenTimeRepository.updateTokenTime(profileCode, tokenTimeProfileDTO.toDomainModel())
                 .map(updatedProfile -> TokenTimeUtil.handleUpdate(profileCode, tokenTimeProfileDTO, updatedProfile))
                 .orElseThrow(() -> new TokenTimeUpdateException("Falha ao atualizar TokenTimeProfile para perfil: " + Profile.fromCode(profileCode)));
+        changeEventPort.publishAfterCommit(ChangeEvent.of("token-time", "updated", profileCode));
+        return updated;
     }
 
     @Override
@@ -0,0 +1,7 @@
+package com.luiz.helpdesk.domain.enums;
+
+public enum ImportStatus {
+    CREATED,
+    REJECTED,
+    FAILED
+}
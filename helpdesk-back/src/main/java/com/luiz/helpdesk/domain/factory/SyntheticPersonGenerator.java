@@ -0,0 +1,90 @@
+package com.luiz.helpdesk.domain.factory;
+
+import com.luiz.helpdesk.domain.enums.Profile;
+import com.luiz.helpdesk.domain.enums.Theme;
+import com.luiz.helpdesk.domain.model.Address;
+import com.luiz.helpdesk.domain.model.Person;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+public class SyntheticPersonGenerator {
+
+    public static final long MAX_PERSONS = 1_000_000_000L;
+
+    private static final long CPF_MULTIPLIER = 387_420_489L;
+    private static final long INDEX_MIXER = 0x9E3779B97F4A7C15L;
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+            "William", "Elizabeth", "David", "Barbara", "Richard", "Margaret", "Joseph", "Susan"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas"};
+    private static final String[] STREETS = {"Oak", "Maple", "Cedar", "Pine", "Elm", "Birch", "Willow", "Walnut", "Cherry", "Spruce"};
+    private static final String[] CITIES = {"Springfield", "Rivertown", "Lakeside", "Hillview", "Meadowbrook", "Sunnyville",
+            "Fairview", "Greenville", "Brookside", "Millbrook"};
+    private static final String[] STATES = {"CA", "NY", "TX", "FL", "IL", "PA", "OH", "GA", "NC", "MI"};
+    private static final Theme[] THEMES = Theme.values();
+
+    private final long seed;
+    private final String encodedPassword;
+    private final LocalDate creationDate;
+    private final PersonFactory personFactory;
+    private final AddressFactory addressFactory;
+
+    public SyntheticPersonGenerator(long seed, String encodedPassword, LocalDate creationDate,
+                                    PersonFactory personFactory, AddressFactory addressFactory) {
+        this.seed = seed;
+        this.encodedPassword = encodedPassword;
+        this.creationDate = creationDate;
+        this.personFactory = personFactory;
+        this.addressFactory = addressFactory;
+    }
+
+    public Person generate(long index) {
+        if (index < 0 || index >= MAX_PERSONS) {
+            throw new IllegalArgumentException("Índice de pessoa sintética fora do intervalo: " + index);
+        }
+        SplittableRandom random = new SplittableRandom(seed + index * INDEX_MIXER);
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String email = (firstName + "." + lastName).toLowerCase() + "." + index + "@email.com";
+        Integer theme = THEMES[random.nextInt(THEMES.length)].getCode();
+
+        return personFactory.createPerson(firstName + " " + lastName, cpfOf(index), email, encodedPassword,
+                        Profile.CLIENT.getCode(), creationDate, theme)
+                .withAddress(addressOf(random));
+    }
+
+    private String cpfOf(long index) {
+        long base = Math.floorMod(index * CPF_MULTIPLIER + seed, MAX_PERSONS);
+        int[] cpf = new int[11];
+        for (int i = 8; i >= 0; i--) {
+            cpf[i] = (int) (base % 10);
+            base /= 10;
+        }
+        for (int i = 9; i < 11; i++) {
+            int sum = 0;
+            int weight = i + 1;
+            for (int j = 0; j < i; j++) {
+                sum += cpf[j] * weight;
+                weight--;
+            }
+            int digit = 11 - (sum % 11);
+            cpf[i] = (digit > 9) ? 0 : digit;
+        }
+        return String.format("%d%d%d.%d%d%d.%d%d%d-%d%d",
+                cpf[0], cpf[1], cpf[2], cpf[3], cpf[4], cpf[5], cpf[6], cpf[7], cpf[8], cpf[9], cpf[10]);
+    }
+
+    private Address addressOf(SplittableRandom random) {
+        return addressFactory.createAddress(
+                STREETS[random.nextInt(STREETS.length)] + " Street",
+                String.valueOf(random.nextInt(1000) + 1),
+                "Neighborhood " + (random.nextInt(10) + 1),
+                CITIES[random.nextInt(CITIES.length)],
+                STATES[random.nextInt(STATES.length)],
+                String.format("%05d-%03d", random.nextInt(100000), random.nextInt(1000)),
+                String.valueOf(random.nextInt(1000) + 1)
+        );
+    }
+}
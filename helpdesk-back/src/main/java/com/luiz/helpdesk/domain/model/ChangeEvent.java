@@ -0,0 +1,14 @@
+package com.luiz.helpdesk.domain.model;
+
+import java.time.Instant;
+
+public record ChangeEvent(
+        String resource,
+        String action,
+        Integer id,
+        Instant occurredAt
+) {
+    public static ChangeEvent of(String resource, String action, Integer id) {
+        return new ChangeEvent(resource, action, id, Instant.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.luiz.helpdesk.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPagination<T>(
+        int pageSize,
+        List<T> content,
+        String cursor,
+        String nextCursor
+) {
+    public <R> CursorPagination<R> map(Function<T, R> converter) {
+        List<R> convertedContent = content.stream().map(converter).toList();
+        return new CursorPagination<>(pageSize, convertedContent, cursor, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
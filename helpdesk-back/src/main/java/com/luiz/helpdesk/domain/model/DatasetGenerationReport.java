@@ -0,0 +1,10 @@
+package com.luiz.helpdesk.domain.model;
+
+public record DatasetGenerationReport(
+        long persons,
+        long elapsedMillis
+) {
+    public double rowsPerSecond() {
+        return elapsedMillis > 0 ? persons * 1000.0 / elapsedMillis : persons;
+    }
+}
@@ -145,10 +145,26 @@ public class Person {
         return cpf;
     }
 
+    public String getCpfKey() {
+        return cpfKeyOf(cpf);
+    }
+
+    public static String cpfKeyOf(String cpf) {
+        return cpf != null ? cpf.replaceAll("\\D", "") : null;
+    }
+
     public String getEmail() {
         return email;
     }
 
+    public String getEmailKey() {
+        return emailKeyOf(email);
+    }
+
+    public static String emailKeyOf(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
     public String getPassword() {
         return password;
     }
@@ -0,0 +1,53 @@
+package com.luiz.helpdesk.domain.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public record PersonFieldSelection(List<String> fields, boolean includeAddress) {
+
+    public static final String ADDRESS = "address";
+    public static final List<String> PERSON_FIELDS = List.of("id", "name", "cpf", "email", "profile", "creationDate", "theme");
+    public static final List<String> ADDRESS_FIELDS = List.of("id", "street", "complement", "neighborhood", "city", "state", "zipCode", "number");
+
+    public static Optional<PersonFieldSelection> parse(String fields, String include) {
+        if (isBlank(fields) && isBlank(include)) {
+            return Optional.empty();
+        }
+        boolean includeAddress = false;
+        for (String association : split(include)) {
+            if (!ADDRESS.equals(association)) {
+                throw new IllegalArgumentException("Associação inválida para inclusão: " + association);
+            }
+            includeAddress = true;
+        }
+        if (isBlank(fields)) {
+            return Optional.of(new PersonFieldSelection(PERSON_FIELDS, includeAddress));
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        split(fields).forEach(field -> {
+            if (!PERSON_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Campo inválido para seleção: " + field);
+            }
+            selected.add(field);
+        });
+        return Optional.of(new PersonFieldSelection(List.copyOf(selected), includeAddress));
+    }
+
+    private static List<String> split(String value) {
+        if (isBlank(value)) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,20 @@
+package com.luiz.helpdesk.domain.model;
+
+public record PersonImportProgress(
+        long processed,
+        long created,
+        long rejected,
+        long failed
+) {
+    public static PersonImportProgress empty() {
+        return new PersonImportProgress(0, 0, 0, 0);
+    }
+
+    public PersonImportProgress add(PersonImportResult result) {
+        return switch (result.status()) {
+            case CREATED -> new PersonImportProgress(processed + 1, created + 1, rejected, failed);
+            case REJECTED -> new PersonImportProgress(processed + 1, created, rejected + 1, failed);
+            case FAILED -> new PersonImportProgress(processed + 1, created, rejected, failed + 1);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.luiz.helpdesk.domain.model;
+
+import com.luiz.helpdesk.domain.enums.ImportStatus;
+
+import java.util.List;
+
+public record PersonImportResult(
+        int rowNumber,
+        ImportStatus status,
+        Integer id,
+        List<String> errors
+) {
+    public static PersonImportResult created(int rowNumber, Integer id) {
+        return new PersonImportResult(rowNumber, ImportStatus.CREATED, id, List.of());
+    }
+
+    public static PersonImportResult rejected(int rowNumber, List<String> errors) {
+        return new PersonImportResult(rowNumber, ImportStatus.REJECTED, null, List.copyOf(errors));
+    }
+
+    public static PersonImportResult failed(int rowNumber, String error) {
+        return new PersonImportResult(rowNumber, ImportStatus.FAILED, null, List.of(error));
+    }
+}
@@ -0,0 +1,19 @@
+package com.luiz.helpdesk.domain.model;
+
+public record PersonImportRow(
+        int rowNumber,
+        Person person,
+        String error
+) {
+    public static PersonImportRow of(int rowNumber, Person person) {
+        return new PersonImportRow(rowNumber, person, null);
+    }
+
+    public static PersonImportRow invalid(int rowNumber, String error) {
+        return new PersonImportRow(rowNumber, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
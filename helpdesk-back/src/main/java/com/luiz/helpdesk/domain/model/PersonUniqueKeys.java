@@ -0,0 +1,16 @@
+package com.luiz.helpdesk.domain.model;
+
+import java.util.Set;
+
+public record PersonUniqueKeys(
+        Set<String> cpfs,
+        Set<String> emails
+) {
+    public boolean containsCpf(String cpf) {
+        return cpfs.contains(cpf);
+    }
+
+    public boolean containsEmail(String email) {
+        return emails.contains(email);
+    }
+}
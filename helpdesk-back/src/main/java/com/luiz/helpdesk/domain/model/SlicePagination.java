@@ -0,0 +1,16 @@
+package com.luiz.helpdesk.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record SlicePagination<T>(
+        int pageNumber,
+        int pageSize,
+        List<T> content,
+        boolean hasNext
+) {
+    public <R> SlicePagination<R> map(Function<T, R> converter) {
+        List<R> convertedContent = content.stream().map(converter).toList();
+        return new SlicePagination<>(pageNumber, pageSize, convertedContent, hasNext);
+    }
+}
@@ -0,0 +1,27 @@
+package com.luiz.helpdesk.domain.model;
+
+import java.time.LocalDate;
+
+public record SyntheticDataset(
+        long persons,
+        long seed,
+        int chunkSize,
+        int threads,
+        LocalDate creationDate
+) {
+    public SyntheticDataset {
+        if (persons < 0) {
+            throw new IllegalArgumentException("A quantidade de pessoas não pode ser negativa");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser maior que zero");
+        }
+        if (creationDate == null) {
+            throw new IllegalArgumentException("A data de criação das pessoas sintéticas é obrigatória");
+        }
+    }
+
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
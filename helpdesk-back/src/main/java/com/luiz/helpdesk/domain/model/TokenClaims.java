@@ -0,0 +1,19 @@
+package com.luiz.helpdesk.domain.model;
+
+import java.time.Instant;
+
+public record TokenClaims(
+        String tokenId,
+        String email,
+        Integer id,
+        String name,
+        Integer profile,
+        Integer theme,
+        Long securityVersion,
+        Instant issuedAt,
+        Instant expiration
+) {
+    public boolean isExpiredAt(Instant instant) {
+        return expiration != null && !expiration.isAfter(instant);
+    }
+}
@@ -22,6 +22,16 @@ public class PersonValidator {
         throwIfErrors(errors);
     }
 
+    public static List<String> validateForBulkCreation(Person person) {
+        List<String> errors = new ArrayList<>();
+        validateBasicPersonData(person, errors);
+        if (person != null) {
+            validatePasswordNotEmpty(person.getPassword(), errors);
+            validateProfile(person.getProfile(), errors);
+        }
+        return errors;
+    }
+
     public static void validateForUpdate(Person person, PersonPersistenceOutputPort repository, Person existingPerson) {
         List<String> errors = new ArrayList<>();
         validateBasicPersonData(person, errors);
@@ -156,6 +166,12 @@ public class PersonValidator {
                 .orElseThrow(() -> new PersonNotFoundException("Pessoa não encontrada com o e-mail: " + email));
     }
 
+    public static Person validateAndGetPersonWithoutAddressByEmail(PersonPersistenceOutputPort repository, String email) {
+        validateEmail(email);
+        return repository.findByEmailWithoutAddress(email)
+                .orElseThrow(() -> new PersonNotFoundException("Pessoa não encontrada com o e-mail: " + email));
+    }
+
     private static void validateCurrentPasswordProvided(String currentPassword, List<String> errors) {
         if (currentPassword == null || currentPassword.trim().isEmpty()) {
             errors.add("A senha atual deve ser fornecida ao atualizar a senha");
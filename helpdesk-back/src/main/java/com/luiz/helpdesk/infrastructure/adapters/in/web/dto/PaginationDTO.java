@@ -1,7 +1,9 @@
 package com.luiz.helpdesk.infrastructure.adapters.in.web.dto;
 
 import com.luiz.helpdesk.application.ports.in.PaginationUseCasePort;
+import com.luiz.helpdesk.domain.model.CursorPagination;
 import com.luiz.helpdesk.domain.model.Pagination;
+import com.luiz.helpdesk.domain.model.SlicePagination;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 
@@ -20,7 +22,10 @@ import java.util.stream.Collectors;
                 + "\"minPageSize\":10,"
                 + "\"maxPageSize\":100,"
                 + "\"defaultPage\":0,"
-                + "\"defaultSize\":20"
+                + "\"defaultSize\":20,"
+                + "\"hasNext\":true,"
+                + "\"cursor\":null,"
+                + "\"nextCursor\":null"
                 + "}")
 
 public class PaginationDTO<T> {
@@ -53,6 +58,15 @@ public class PaginationDTO<T> {
     @Schema(description = "Default page size", example = "20")
     private int defaultSize;
 
+    @Schema(description = "Whether there are more items after the current page", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "Cursor used to fetch the current page in cursor mode")
+    private String cursor;
+
+    @Schema(description = "Cursor for the next page in cursor mode, null when there are no more items")
+    private String nextCursor;
+
     private PaginationDTO() {
     }
 
@@ -109,6 +123,21 @@ public class PaginationDTO<T> {
             return this;
         }
 
+        public Builder<T> hasNext(Boolean hasNext) {
+            paginationDTO.hasNext = hasNext;
+            return this;
+        }
+
+        public Builder<T> cursor(String cursor) {
+            paginationDTO.cursor = cursor;
+            return this;
+        }
+
+        public Builder<T> nextCursor(String nextCursor) {
+            paginationDTO.nextCursor = nextCursor;
+            return this;
+        }
+
         public PaginationDTO<T> build() {
             return paginationDTO;
         }
@@ -126,6 +155,28 @@ public class PaginationDTO<T> {
                 .content(pagination.content())
                 .totalElements(pagination.totalElements())
                 .totalPages(pagination.totalPages())
+                .hasNext(pagination.hasNext())
+                .build();
+    }
+
+    @Schema(description = "Create PaginationDTO from domain SlicePagination")
+    public static <T> PaginationDTO<T> fromSlicePagination(SlicePagination<T> pagination) {
+        return new Builder<T>()
+                .pageNumber(pagination.pageNumber())
+                .pageSize(pagination.pageSize())
+                .content(pagination.content())
+                .hasNext(pagination.hasNext())
+                .build();
+    }
+
+    @Schema(description = "Create PaginationDTO from domain CursorPagination")
+    public static <T> PaginationDTO<T> fromCursorPagination(CursorPagination<T> pagination) {
+        return new Builder<T>()
+                .pageSize(pagination.pageSize())
+                .content(pagination.content())
+                .hasNext(pagination.hasNext())
+                .cursor(pagination.cursor())
+                .nextCursor(pagination.nextCursor())
                 .build();
     }
 
@@ -154,6 +205,9 @@ public class PaginationDTO<T> {
                 .maxPageSize(this.maxPageSize)
                 .defaultPage(this.defaultPage)
                 .defaultSize(this.defaultSize)
+                .hasNext(this.hasNext)
+                .cursor(this.cursor)
+                .nextCursor(this.nextCursor)
                 .build();
     }
 
@@ -232,6 +286,21 @@ public class PaginationDTO<T> {
         return defaultSize;
     }
 
+    @Schema(description = "Get whether there are more items after the current page")
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    @Schema(description = "Get the cursor of the current page")
+    public String getCursor() {
+        return cursor;
+    }
+
+    @Schema(description = "Get the cursor of the next page")
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     @Schema(description = "Check if the page has content")
     public boolean hasContent() {
         return content != null && !content.isEmpty();
@@ -239,6 +308,9 @@ public class PaginationDTO<T> {
 
     @Schema(description = "Check if there is a next page")
     public boolean hasNext() {
+        if (hasNext != null) {
+            return hasNext;
+        }
         return pageNumber < totalPages - 1;
     }
 
@@ -265,7 +337,10 @@ public class PaginationDTO<T> {
                 maxPageSize == that.maxPageSize &&
                 defaultPage == that.defaultPage &&
                 defaultSize == that.defaultSize &&
-                Objects.equals(content, that.content);
+                Objects.equals(content, that.content) &&
+                Objects.equals(hasNext, that.hasNext) &&
+                Objects.equals(cursor, that.cursor) &&
+                Objects.equals(nextCursor, that.nextCursor);
     }
 
     @Override
@@ -275,7 +350,8 @@ public class PaginationDTO<T> {
                 totalElements,
                 totalPages, minPageSize,
                 maxPageSize, defaultPage,
-                defaultSize);
+                defaultSize, hasNext, cursor,
+                nextCursor);
     }
 
     @Override
@@ -290,6 +366,9 @@ public class PaginationDTO<T> {
                 ", maxPageSize=" + maxPageSize +
                 ", defaultPage=" + defaultPage +
                 ", defaultSize=" + defaultSize +
+                ", hasNext=" + hasNext +
+                ", cursor='" + cursor + '\'' +
+                ", nextCursor='" + nextCursor + '\'' +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.dto;
+
+import com.luiz.helpdesk.domain.model.Address;
+import com.luiz.helpdesk.domain.model.Person;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+@Schema(description = "Flat person row used by the export endpoint")
+public record PersonExportDTO(
+        Integer id,
+        String name,
+        String cpf,
+        String email,
+        Integer profile,
+        Integer theme,
+        LocalDate creationDate,
+        String street,
+        String number,
+        String complement,
+        String neighborhood,
+        String city,
+        String state,
+        String zipCode
+) {
+    public static final List<String> COLUMNS = List.of("id", "name", "cpf", "email", "profile", "theme", "creationDate",
+            "street", "number", "complement", "neighborhood", "city", "state", "zipCode");
+
+    public static PersonExportDTO fromDomainModel(Person person) {
+        Address address = person.getAddress();
+        return new PersonExportDTO(
+                person.getId(),
+                person.getName(),
+                person.getCpf(),
+                person.getEmail(),
+                person.getProfile(),
+                person.getTheme(),
+                person.getCreationDate(),
+                address != null ? address.getStreet() : null,
+                address != null ? address.getNumber() : null,
+                address != null ? address.getComplement() : null,
+                address != null ? address.getNeighborhood() : null,
+                address != null ? address.getCity() : null,
+                address != null ? address.getState() : null,
+                address != null ? address.getZipCode() : null
+        );
+    }
+
+    public List<Object> values() {
+        return Arrays.asList(id, name, cpf, email, profile, theme, creationDate,
+                street, number, complement, neighborhood, city, state, zipCode);
+    }
+}
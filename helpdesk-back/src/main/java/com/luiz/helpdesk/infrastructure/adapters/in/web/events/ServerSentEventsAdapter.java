@@ -0,0 +1,218 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.events;
+
+import com.luiz.helpdesk.application.ports.out.ChangeEventPort;
+import com.luiz.helpdesk.domain.model.ChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+@Component
+public class ServerSentEventsAdapter implements ChangeEventPort {
+
+    private static final long IDLE = 0L;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    private final LongFunction<SseEmitter> emitterFactory;
+    private final int maxConnections;
+    private final int queueCapacity;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Counter droppedEvents;
+    private final Counter stalledSubscribers;
+
+    @Autowired
+    public ServerSentEventsAdapter(@Value("${events.sse.max-connections:500}") int maxConnections,
+                                   @Value("${events.sse.queue-capacity:32}") int queueCapacity,
+                                   @Value("${events.sse.timeout-millis:1800000}") long emitterTimeoutMillis,
+                                   @Value("${events.sse.send-timeout-millis:5000}") long sendTimeoutMillis,
+                                   @Value("${events.sse.dispatcher-threads:2}") int dispatcherThreads,
+                                   MeterRegistry meterRegistry) {
+        this(maxConnections, queueCapacity, emitterTimeoutMillis, sendTimeoutMillis, dispatcherThreads, meterRegistry, SseEmitter::new);
+    }
+
+    ServerSentEventsAdapter(int maxConnections, int queueCapacity, long emitterTimeoutMillis, long sendTimeoutMillis,
+                            int dispatcherThreads, MeterRegistry meterRegistry, LongFunction<SseEmitter> emitterFactory) {
+        this.maxConnections = maxConnections;
+        this.queueCapacity = queueCapacity;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.emitterFactory = emitterFactory;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(Math.min(dispatcherThreads, Math.max(1, maxConnections)), Math.max(1, maxConnections),
+                60L, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatcher-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.droppedEvents = Counter.builder("events.sse.dropped")
+                .description("Change events dropped because a subscriber queue was full")
+                .register(meterRegistry);
+        this.stalledSubscribers = Counter.builder("events.sse.stalled")
+                .description("Subscribers disconnected because a send took longer than the send timeout")
+                .register(meterRegistry);
+        Gauge.builder("events.sse.connections", connections, AtomicInteger::get)
+                .description("Open server-sent event connections")
+                .register(meterRegistry);
+    }
+
+    public Optional<SseEmitter> subscribe() {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return Optional.empty();
+        }
+        SseEmitter emitter = emitterFactory.apply(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.add(subscriber);
+        return Optional.of(emitter);
+    }
+
+    @Override
+    public void publishAfterCommit(ChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(() -> toSseEvent(event));
+                }
+            });
+        } else {
+            broadcast(() -> toSseEvent(event));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${events.sse.heartbeat-millis:25000}")
+    public void heartbeat() {
+        broadcast(() -> SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Scheduled(fixedRateString = "${events.sse.send-timeout-millis:5000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != IDLE && now - startedAt > sendTimeoutNanos) {
+                remove(subscriber);
+                stalledSubscribers.increment();
+                subscriber.emitter.completeWithError(new IOException("Envio de evento excedeu o tempo limite"));
+            }
+        }
+    }
+
+    int connectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdownNow();
+    }
+
+    private static SseEmitter.SseEventBuilder toSseEvent(ChangeEvent event) {
+        return SseEmitter.event().name(event.resource()).data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private void broadcast(Supplier<SseEmitter.SseEventBuilder> event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(event)) {
+                droppedEvents.increment();
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while (subscribers.contains(subscriber) && (event = subscriber.poll()) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                subscriber.emitter.send(event.get());
+                subscriber.sendStartedAt = IDLE;
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.sendStartedAt = IDLE;
+            subscriber.draining.set(false);
+        }
+        if (subscriber.hasPending() && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            connections.decrementAndGet();
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Deque<Supplier<SseEmitter.SseEventBuilder>> queue = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendStartedAt = IDLE;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private synchronized boolean offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            boolean dropped = false;
+            if (queue.size() >= queueCapacity) {
+                queue.pollFirst();
+                dropped = true;
+            }
+            queue.addLast(event);
+            return dropped;
+        }
+
+        private synchronized Supplier<SseEmitter.SseEventBuilder> poll() {
+            return queue.pollFirst();
+        }
+
+        private synchronized boolean hasPending() {
+            return !queue.isEmpty();
+        }
+    }
+}
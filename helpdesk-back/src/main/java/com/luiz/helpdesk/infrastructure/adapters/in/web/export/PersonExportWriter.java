@@ -0,0 +1,103 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luiz.helpdesk.application.ports.in.PersonManageUseCasePort;
+import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.PersonExportDTO;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PersonExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PersonManageUseCasePort personUseCase;
+    private final ObjectMapper objectMapper;
+
+    public PersonExportWriter(PersonManageUseCasePort personUseCase, ObjectMapper objectMapper) {
+        this.personUseCase = personUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    public StreamingResponseBody write(Format format, Map<String, String> filters) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == Format.CSV) {
+                writeCsvLine(writer, PersonExportDTO.COLUMNS);
+            }
+            personUseCase.exportPersons(filters, person -> {
+                PersonExportDTO row = PersonExportDTO.fromDomainModel(person);
+                try {
+                    if (format == Format.CSV) {
+                        writeCsvLine(writer, row.values());
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    public enum Format {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public static Format fromValue(String value) {
+            return Arrays.stream(values())
+                    .filter(format -> format.extension.equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Formato de exportação inválido: " + value));
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+}
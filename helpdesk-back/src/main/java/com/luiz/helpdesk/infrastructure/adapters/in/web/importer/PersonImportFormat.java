@@ -0,0 +1,21 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.importer;
+
+import java.util.Arrays;
+
+public enum PersonImportFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String value;
+
+    PersonImportFormat(String value) {
+        this.value = value;
+    }
+
+    public static PersonImportFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Formato de importação inválido: " + value));
+    }
+}
@@ -0,0 +1,167 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luiz.helpdesk.domain.model.PersonImportRow;
+import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.AddressDTO;
+import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.PersonDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+class PersonImportReader implements Iterator<PersonImportRow> {
+
+    private final PersonImportFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private int rowNumber;
+    private PersonImportRow next;
+    private boolean finished;
+
+    PersonImportReader(PersonImportFormat format, InputStream inputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readRow();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public PersonImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PersonImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private PersonImportRow readRow() {
+        try {
+            return format == PersonImportFormat.CSV ? readCsvRow() : readJsonRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PersonImportRow readJsonRow() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        rowNumber++;
+        try {
+            return toRow(objectMapper.readValue(line, PersonDTO.class));
+        } catch (JsonProcessingException e) {
+            return PersonImportRow.invalid(rowNumber, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    private PersonImportRow readCsvRow() throws IOException {
+        if (header == null) {
+            List<String> headerValues = readCsvRecord();
+            if (headerValues == null) {
+                return null;
+            }
+            header = headerValues.stream().map(String::trim).toList();
+        }
+        List<String> values;
+        do {
+            values = readCsvRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+        rowNumber++;
+        if (values.size() != header.size()) {
+            return PersonImportRow.invalid(rowNumber, "A linha possui " + values.size() + " colunas, esperado " + header.size());
+        }
+        Map<String, String> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).trim();
+            columns.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        try {
+            PersonDTO dto = new PersonDTO(null, columns.get("name"), columns.get("cpf"), columns.get("email"),
+                    columns.get("password"), parseInteger(columns.get("profile")), null, parseInteger(columns.get("theme")));
+            dto.setAddress(new AddressDTO(null, columns.get("street"), columns.get("complement"), columns.get("neighborhood"),
+                    columns.get("city"), columns.get("state"), columns.get("zipCode"), columns.get("number"), null));
+            return toRow(dto);
+        } catch (NumberFormatException e) {
+            return PersonImportRow.invalid(rowNumber, "Valor numérico inválido: " + e.getMessage());
+        }
+    }
+
+    private List<String> readCsvRecord() throws IOException {
+        int character = reader.read();
+        if (character == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (character != -1) {
+            if (quoted) {
+                if (character == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        value.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    value.append((char) character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (character == '\n') {
+                break;
+            } else if (character != '\r') {
+                value.append((char) character);
+            }
+            character = reader.read();
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private PersonImportRow toRow(PersonDTO dto) {
+        PersonDTO withDefaults = new PersonDTO(null, dto.getName(), dto.getCpf(), dto.getEmail(), dto.getPassword(),
+                dto.getProfile(), null, dto.getTheme());
+        withDefaults.setAddress(dto.getAddress());
+        try {
+            return PersonImportRow.of(rowNumber, withDefaults.toDomainModel());
+        } catch (IllegalArgumentException e) {
+            return PersonImportRow.invalid(rowNumber, e.getMessage());
+        }
+    }
+
+    private Integer parseInteger(String value) {
+        return value != null ? Integer.valueOf(value) : null;
+    }
+}
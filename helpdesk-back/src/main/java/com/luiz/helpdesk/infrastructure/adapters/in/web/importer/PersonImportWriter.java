@@ -0,0 +1,67 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.luiz.helpdesk.application.ports.in.PersonImportUseCasePort;
+import com.luiz.helpdesk.domain.model.PersonImportProgress;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class PersonImportWriter {
+
+    private final PersonImportUseCasePort personImportUseCase;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public PersonImportWriter(PersonImportUseCasePort personImportUseCase,
+                              ObjectMapper objectMapper,
+                              @Value("${persistence.bulk-import.chunk-size:500}") int chunkSize) {
+        this.personImportUseCase = personImportUseCase;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public StreamingResponseBody write(PersonImportFormat format, InputStream inputStream) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            PersonImportReader rows = new PersonImportReader(format, inputStream, objectMapper);
+            PersonImportProgress summary = personImportUseCase.importPersons(rows, chunkSize,
+                    result -> writeLine(writer, "row", result),
+                    progress -> {
+                        writeLine(writer, "progress", progress);
+                        flush(writer);
+                    });
+            writeLine(writer, "summary", summary);
+            writer.flush();
+        };
+    }
+
+    private void writeLine(Writer writer, String type, Object value) {
+        ObjectNode node = objectMapper.createObjectNode().put("type", type);
+        node.setAll((ObjectNode) objectMapper.valueToTree(value));
+        try {
+            writer.write(objectMapper.writeValueAsString(node));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(Writer writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
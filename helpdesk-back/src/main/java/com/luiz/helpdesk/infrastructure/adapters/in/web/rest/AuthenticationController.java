@@ -2,9 +2,12 @@ package com.luiz.helpdesk.infrastructure.adapters.in.web.rest;
 
 import com.luiz.helpdesk.application.ports.in.AuthenticationUseCasePort;
 import com.luiz.helpdesk.application.ports.out.DecryptionPort;
+import com.luiz.helpdesk.application.ports.out.LoginThrottlePort;
 import com.luiz.helpdesk.domain.exception.auth.UnauthorizedException;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.TokenClaims;
 import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.AuthenticationDTO;
+import com.luiz.helpdesk.infrastructure.adapters.out.config.security.JwtAuthenticationFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -24,24 +28,32 @@ public class AuthenticationController {
 
     private final AuthenticationUseCasePort authenticationService;
     private final DecryptionPort decryptionPort;
+    private final LoginThrottlePort loginThrottlePort;
 
-    public AuthenticationController(AuthenticationUseCasePort authenticationService, DecryptionPort decryptionPort) {
+    public AuthenticationController(AuthenticationUseCasePort authenticationService,
+                                    DecryptionPort decryptionPort,
+                                    LoginThrottlePort loginThrottlePort) {
         this.authenticationService = authenticationService;
         this.decryptionPort = decryptionPort;
+        this.loginThrottlePort = loginThrottlePort;
     }
 
     @PostMapping("/login")
     @Operation(summary = "Create the authentication token", description = "Authenticates a user and returns a JWT token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully authenticated"),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+            @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts")
     })
     public ResponseEntity<Void> login(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "User credentials", required = true,
                     content = @Content(schema = @Schema(implementation = AuthenticationDTO.class)))
-            @Valid @RequestBody AuthenticationDTO request) throws Exception {
+            @Valid @RequestBody AuthenticationDTO request,
+            HttpServletRequest httpRequest) throws Exception {
+        loginThrottlePort.acquire(request.getEmail(), httpRequest.getRemoteAddr());
         String decryptedPassword = decryptionPort.decrypt(request.getPassword());
         Person authenticatedPerson = authenticationService.authenticate(request.getEmail(), decryptedPassword);
+        loginThrottlePort.reset(request.getEmail());
         String token = authenticationService.generateToken(authenticatedPerson);
         return createTokenResponse(token);
     }
@@ -55,11 +67,27 @@ public class AuthenticationController {
     })
     public ResponseEntity<String> refreshToken(
             @Parameter(description = "JWT token to be refreshed", required = true)
-            @RequestHeader("Authorization") String token) {
-        String newToken = authenticationService.refreshToken(extractToken(token));
+            @RequestHeader("Authorization") String token,
+            @Parameter(hidden = true)
+            @RequestAttribute(name = JwtAuthenticationFilter.VERIFIED_CLAIMS_ATTRIBUTE, required = false) TokenClaims verifiedClaims) {
+        String newToken = verifiedClaims != null
+                ? authenticationService.refreshToken(verifiedClaims)
+                : authenticationService.refreshToken(extractToken(token));
         return ResponseEntity.ok(newToken);
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Revoke the authentication token", description = "Revokes the presented JWT token until it expires")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked")
+    })
+    public ResponseEntity<Void> logout(
+            @Parameter(hidden = true)
+            @RequestAttribute(name = JwtAuthenticationFilter.VERIFIED_CLAIMS_ATTRIBUTE, required = false) TokenClaims verifiedClaims) {
+        authenticationService.logout(verifiedClaims);
+        return ResponseEntity.noContent().build();
+    }
+
     private ResponseEntity<Void> createTokenResponse(String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.add(HttpHeaders.AUTHORIZATION, "Bearer " + token);
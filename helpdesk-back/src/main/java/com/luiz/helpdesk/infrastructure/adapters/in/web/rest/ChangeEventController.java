@@ -0,0 +1,41 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.rest;
+
+import com.luiz.helpdesk.infrastructure.adapters.in.web.events.ServerSentEventsAdapter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Events", description = "Server-sent change notifications")
+public class ChangeEventController {
+
+    private final ServerSentEventsAdapter serverSentEventsAdapter;
+
+    public ChangeEventController(ServerSentEventsAdapter serverSentEventsAdapter) {
+        this.serverSentEventsAdapter = serverSentEventsAdapter;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to change events", description = "Streams token-time and person change events as they are committed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "503", description = "Connection limit reached")
+    })
+    public ResponseEntity<SseEmitter> subscribe() {
+        return serverSentEventsAdapter.subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+}
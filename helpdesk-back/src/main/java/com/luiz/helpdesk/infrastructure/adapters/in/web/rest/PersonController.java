@@ -3,26 +3,42 @@ package com.luiz.helpdesk.infrastructure.adapters.in.web.rest;
 import com.luiz.helpdesk.application.ports.in.PaginationUseCasePort;
 import com.luiz.helpdesk.application.ports.in.PersonManageUseCasePort;
 import com.luiz.helpdesk.domain.exception.person.PersonNotFoundException;
+import com.luiz.helpdesk.domain.model.CursorPagination;
 import com.luiz.helpdesk.domain.model.Pagination;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonFieldSelection;
+import com.luiz.helpdesk.domain.model.SlicePagination;
 import com.luiz.helpdesk.infrastructure.adapters.in.web.annotation.PaginationParameters;
 import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.PaginationDTO;
 import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.PersonDTO;
 import com.luiz.helpdesk.infrastructure.adapters.in.web.dto.PersonMeDTO;
+import com.luiz.helpdesk.infrastructure.adapters.in.web.export.PersonExportWriter;
+import com.luiz.helpdesk.infrastructure.adapters.in.web.importer.PersonImportFormat;
+import com.luiz.helpdesk.infrastructure.adapters.in.web.importer.PersonImportWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/persons")
@@ -31,11 +47,20 @@ public class PersonController {
 
     private final PersonManageUseCasePort personUseCase;
     private final PaginationUseCasePort paginationUseCase;
+    private final PersonExportWriter personExportWriter;
+    private final PersonImportWriter personImportWriter;
+    private final long streamTimeoutMillis;
 
     public PersonController(PersonManageUseCasePort personUseCase,
-                            PaginationUseCasePort paginationUseCase) {
+                            PaginationUseCasePort paginationUseCase,
+                            PersonExportWriter personExportWriter,
+                            PersonImportWriter personImportWriter,
+                            @Value("${persistence.stream.request-timeout-millis:1800000}") long streamTimeoutMillis) {
         this.personUseCase = personUseCase;
         this.paginationUseCase = paginationUseCase;
+        this.personExportWriter = personExportWriter;
+        this.personImportWriter = personImportWriter;
+        this.streamTimeoutMillis = streamTimeoutMillis;
     }
 
     @PostMapping
@@ -51,38 +76,103 @@ public class PersonController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all persons with their addresses", description = "Retrieves a paginated list of all persons with their address information")
+    @Operation(summary = "Get all persons with their addresses", description = "Retrieves a paginated list of all persons with their address information. fields and include restrict the selected columns and the returned properties")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of persons")
     })
     @PaginationParameters
-    public ResponseEntity<PaginationDTO<PersonDTO>> getAllPersons(
+    public ResponseEntity<PaginationDTO<?>> getAllPersons(
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Comma-separated person fields to return (id is always included)") @RequestParam(required = false) String fields,
+            @Parameter(description = "Associations to return, currently only address") @RequestParam(required = false) String include) {
         PaginationDTO<Void> config = createPaginationConfig(page, size);
+        Optional<PersonFieldSelection> selection = PersonFieldSelection.parse(fields, include);
+        if (selection.isPresent()) {
+            Pagination<Map<String, Object>> fieldPagination = personUseCase.getPersonFieldsWithFilters(config.toDomainPagination(), selection.get(), Map.of());
+            return ResponseEntity.ok(createFieldsResponse(fieldPagination, config));
+        }
         Pagination<Person> personPagination = personUseCase.getAllPersons(config.toDomainPagination());
         return ResponseEntity.ok(createPaginatedResponse(personPagination, config));
     }
 
     @GetMapping("/all")
-    @Operation(summary = "Get all persons with filters", description = "Retrieves a paginated list of persons with optional filtering")
+    @Operation(summary = "Get all persons with filters", description = "Retrieves a paginated list of persons with optional filtering. Sending the cursor parameter (empty for the first page) switches to keyset pagination and slice=true returns hasNext only, both without a total count")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered list of persons")
     })
     @PaginationParameters
-    public ResponseEntity<PaginationDTO<PersonDTO>> getAllPersonsWithFilters(
+    public ResponseEntity<PaginationDTO<?>> getAllPersonsWithFilters(
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Return hasNext instead of the total count") @RequestParam(defaultValue = "false") boolean slice,
+            @Parameter(description = "Comma-separated person fields to return (id is always included)") @RequestParam(required = false) String fields,
+            @Parameter(description = "Associations to return, currently only address") @RequestParam(required = false) String include,
             @RequestParam(required = false) Map<String, String> allParams) {
         PaginationDTO<Void> config = createPaginationConfig(page, size);
         Map<String, String> filters = new HashMap<>(allParams);
         filters.remove("page");
         filters.remove("size");
+        filters.remove("cursor");
+        filters.remove("slice");
+        filters.remove("fields");
+        filters.remove("include");
 
+        if (cursor != null) {
+            CursorPagination<Person> personCursorPagination = personUseCase.getAllPersonsWithCursor(cursor, config.getPageSize(), filters);
+            return ResponseEntity.ok(createCursorResponse(personCursorPagination, config));
+        }
+        Optional<PersonFieldSelection> selection = PersonFieldSelection.parse(fields, include);
+        if (selection.isPresent()) {
+            Pagination<Map<String, Object>> fieldPagination = personUseCase.getPersonFieldsWithFilters(config.toDomainPagination(), selection.get(), filters);
+            return ResponseEntity.ok(createFieldsResponse(fieldPagination, config));
+        }
+        if (slice) {
+            SlicePagination<Person> personSlice = personUseCase.getPersonSliceWithFilters(config.toDomainPagination(), filters);
+            return ResponseEntity.ok(createSliceResponse(personSlice, config));
+        }
         Pagination<Person> personPagination = personUseCase.getAllPersonsWithFilters(config.toDomainPagination(), filters);
         return ResponseEntity.ok(createPaginatedResponse(personPagination, config));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Import persons in bulk", description = "Reads persons from a CSV (with header) or NDJSON body and streams one NDJSON line per row, a progress line per chunk and a final summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import stream started"),
+            @ApiResponse(responseCode = "400", description = "Invalid import format")
+    })
+    public WebAsyncTask<Void> importPersons(
+            @Parameter(description = "Import format: csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            InputStream body,
+            HttpServletResponse response) {
+        PersonImportFormat importFormat = PersonImportFormat.fromValue(format);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return stream(response, personImportWriter.write(importFormat, body));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export persons", description = "Streams every person matching the filters as CSV or NDJSON without paging")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started"),
+            @ApiResponse(responseCode = "400", description = "Invalid export format")
+    })
+    public WebAsyncTask<Void> exportPersons(
+            @Parameter(description = "Export format: csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Map<String, String> allParams,
+            HttpServletResponse response) {
+        PersonExportWriter.Format exportFormat = PersonExportWriter.Format.fromValue(format);
+        Map<String, String> filters = new HashMap<>(allParams);
+        filters.remove("format");
+
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("persons." + exportFormat.getExtension())
+                .build()
+                .toString());
+        return stream(response, personExportWriter.write(exportFormat, filters));
+    }
+
     @GetMapping("/pagination-info")
     @Operation(summary = "Get pagination configuration information", description = "Retrieves the default pagination configuration")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved pagination information")
@@ -189,6 +279,15 @@ public class PersonController {
                 .toUri();
     }
 
+    private WebAsyncTask<Void> stream(HttpServletResponse response, StreamingResponseBody body) {
+        return new WebAsyncTask<>(streamTimeoutMillis, () -> {
+            ServletOutputStream outputStream = response.getOutputStream();
+            body.writeTo(outputStream);
+            outputStream.flush();
+            return null;
+        });
+    }
+
     private PaginationDTO<Void> createPaginationConfig(Integer page, Integer size) {
         PaginationDTO<Void> config = PaginationDTO.createConfigDTO(paginationUseCase);
         config.validateAndSetPageNumber(page);
@@ -203,6 +302,26 @@ public class PersonController {
         return result;
     }
 
+    private PaginationDTO<Map<String, Object>> createFieldsResponse(Pagination<Map<String, Object>> fieldPagination, PaginationDTO<Void> config) {
+        PaginationDTO<Map<String, Object>> result = PaginationDTO.fromDomainPagination(fieldPagination);
+        config.copyConfigTo(result);
+        return result;
+    }
+
+    private PaginationDTO<PersonDTO> createCursorResponse(CursorPagination<Person> personCursorPagination, PaginationDTO<Void> config) {
+        PaginationDTO<PersonDTO> result = PaginationDTO.fromCursorPagination(personCursorPagination)
+                .map(PersonDTO::fromDomainModel);
+        config.copyConfigTo(result);
+        return result;
+    }
+
+    private PaginationDTO<PersonDTO> createSliceResponse(SlicePagination<Person> personSlice, PaginationDTO<Void> config) {
+        PaginationDTO<PersonDTO> result = PaginationDTO.fromSlicePagination(personSlice)
+                .map(PersonDTO::fromDomainModel);
+        config.copyConfigTo(result);
+        return result;
+    }
+
     private Person getExistingPerson(Integer id) {
         return personUseCase.getPersonById(id)
                 .orElseThrow(() -> new PersonNotFoundException("Person not found with id: " + id));
@@ -1,17 +1,30 @@
 package com.luiz.helpdesk.infrastructure.adapters.out.config;
 
 import com.luiz.helpdesk.application.ports.in.InitializeDatabaseUseCasePort;
+import com.luiz.helpdesk.domain.model.DatasetGenerationReport;
+import com.luiz.helpdesk.domain.model.SyntheticDataset;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.LocalDate;
+
 @Configuration
 public class DatabaseInitializationConfig {
 
     @Bean
-    public CommandLineRunner initDatabase(InitializeDatabaseUseCasePort initializeDatabaseUseCase) {
+    public CommandLineRunner initDatabase(InitializeDatabaseUseCasePort initializeDatabaseUseCase,
+                                          @Value("${dataset.persons:100}") long persons,
+                                          @Value("${dataset.seed:42}") long seed,
+                                          @Value("${dataset.chunk-size:1000}") int chunkSize,
+                                          @Value("${dataset.threads:0}") int threads,
+                                          @Value("${dataset.creation-date:2024-01-01}") LocalDate creationDate) {
         return args -> {
-            initializeDatabaseUseCase.initializeDatabase();
+            DatasetGenerationReport report = initializeDatabaseUseCase.initializeDatabase(
+                    new SyntheticDataset(persons, seed, chunkSize, threads, creationDate));
+            System.out.printf("Synthetic dataset: %d persons in %d ms (%.0f rows/s)%n",
+                    report.persons(), report.elapsedMillis(), report.rowsPerSecond());
         };
     }
 }
@@ -2,9 +2,13 @@ package com.luiz.helpdesk.infrastructure.adapters.out.config;
 
 import com.luiz.helpdesk.application.ports.in.TokenTimeManagementUseCasePort;
 import com.luiz.helpdesk.application.ports.out.JwtTokenProviderPort;
+import com.luiz.helpdesk.application.ports.out.SecurityVersionPort;
 import com.luiz.helpdesk.domain.enums.Profile;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.TokenClaims;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,59 +18,120 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider implements JwtTokenProviderPort {
 
     private final SecretKey key;
+    private final JwtParser jwtParser;
     private final TokenTimeManagementUseCasePort tokenTimeManageService;
+    private final SecurityVersionPort securityVersionPort;
 
     public JwtTokenProvider(
             @Value("${security.jwt.token.secret-key}") String secretKey,
-            @Lazy TokenTimeManagementUseCasePort tokenTimeManageService
+            @Lazy TokenTimeManagementUseCasePort tokenTimeManageService,
+            SecurityVersionPort securityVersionPort
     ) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
         this.tokenTimeManageService = tokenTimeManageService;
+        this.securityVersionPort = securityVersionPort;
     }
 
     @Override
     public String createToken(Person person) {
+        return buildToken(
+                person.getEmail(),
+                person.getId(),
+                person.getName(),
+                person.getProfile(),
+                person.getTheme(),
+                securityVersionPort.currentVersion(person.getId())
+        );
+    }
+
+    @Override
+    public String createToken(TokenClaims claims) {
+        return buildToken(
+                claims.email(),
+                claims.id(),
+                claims.name(),
+                claims.profile(),
+                claims.theme(),
+                claims.securityVersion()
+        );
+    }
+
+    @Override
+    public Optional<TokenClaims> parseVerified(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(toTokenClaims(parseClaims(token)));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String getEmailFromToken(String token) {
+        return parseClaims(token).getSubject();
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+        return parseVerified(token).isPresent();
+    }
+
+    @Override
+    public String getThemeFromToken(String token) {
+        Claims claims = parseClaims(token);
+        return claims.get("theme", String.class);
+    }
+
+    private String buildToken(String email, Integer id, String name, Integer profileCode, Integer theme, Long securityVersion) {
         Instant now = Instant.now();
-        Profile profile = Profile.fromCode(person.getProfile());
+        Profile profile = Profile.fromCode(profileCode);
         long validityInMilliseconds = tokenTimeManageService.getExpirationTimeInMillis(profile);
 
         Instant validity = now.plusMillis(validityInMilliseconds);
 
         return Jwts.builder()
-                .claim("sub", person.getEmail())
-                .claim("id", person.getId())
-                .claim("name", person.getName())
-                .claim("profile", person.getProfile())
-                .claim("theme", person.getTheme())
+                .id(UUID.randomUUID().toString())
+                .claim("sub", email)
+                .claim("id", id)
+                .claim("name", name)
+                .claim("profile", profileCode)
+                .claim("theme", theme)
+                .claim("sv", securityVersion)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(validity))
                 .signWith(key)
                 .compact();
     }
 
-    @Override
-    public String getEmailFromToken(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
-    @Override
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    private TokenClaims toTokenClaims(Claims claims) {
+        return new TokenClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("id", Integer.class),
+                claims.get("name", String.class),
+                claims.get("profile", Integer.class),
+                claims.get("theme", Integer.class),
+                claims.get("sv", Long.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
     }
 
-    @Override
-    public String getThemeFromToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        return claims.get("theme", String.class);
+    private Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,237 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.config.CustomUserDetails;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private static final int GENERATION_STRIPES = 256;
+    private static final int MIN_ENTRIES_PER_STRIPE = 64;
+
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final Stripe[] stripes;
+    private final ConcurrentMap<Integer, Set<String>> keysByPerson = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AuthenticatedPrincipalCache(@Value("${security.principal-cache.enabled:true}") boolean enabled,
+                                       @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                                       @Value("${security.principal-cache.max-size:10000}") int maxSize,
+                                       @Value("${security.principal-cache.stripes:16}") int stripeCount,
+                                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        int effectiveStripes = Math.max(1, Math.min(stripeCount, maxSize / MIN_ENTRIES_PER_STRIPE));
+        this.stripes = new Stripe[effectiveStripes];
+        int entriesPerStripe = Math.max(1, maxSize / effectiveStripes);
+        for (int i = 0; i < effectiveStripes; i++) {
+            stripes[i] = new Stripe(entriesPerStripe);
+        }
+        registerMetrics(meterRegistry);
+    }
+
+    public Optional<CustomUserDetails> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = hash(token);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            CachedPrincipal cached = stripe.entries.get(key);
+            if (cached == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            if (cached.isExpired(System.currentTimeMillis())) {
+                stripe.entries.remove(key);
+                evictions.incrementAndGet();
+                forgetKey(key, cached);
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(cached.userDetails());
+        }
+    }
+
+    public long generation(Integer personId) {
+        return generations.get(stripe(personId));
+    }
+
+    public void put(String token, Instant tokenExpiration, CustomUserDetails userDetails, long expectedGeneration) {
+        if (!enabled || userDetails.getId() == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.toEpochMilli());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        userDetails.eraseCredentials();
+        Integer personId = userDetails.getId();
+        if (generation(personId) != expectedGeneration) {
+            return;
+        }
+        String key = hash(token);
+        Stripe stripe = stripeFor(key);
+        CachedPrincipal cached = new CachedPrincipal(userDetails, expiresAt, expectedGeneration);
+        synchronized (stripe) {
+            CachedPrincipal previous = stripe.entries.put(key, cached);
+            if (previous != null) {
+                forgetKey(key, previous);
+            }
+            keysByPerson.compute(personId, (id, keys) -> {
+                Set<String> tracked = keys == null ? new HashSet<>() : keys;
+                tracked.add(key);
+                return tracked;
+            });
+        }
+        if (generation(personId) != expectedGeneration) {
+            synchronized (stripe) {
+                if (stripe.entries.remove(key, cached)) {
+                    forgetKey(key, cached);
+                }
+            }
+        }
+    }
+
+    public void evictPerson(Integer personId) {
+        if (personId == null) {
+            return;
+        }
+        evictPersonEntries(personId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictPersonEntries(personId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.entries.size();
+            }
+        }
+        return total;
+    }
+
+    int trackedPersons() {
+        return keysByPerson.size();
+    }
+
+    private void evictPersonEntries(Integer personId) {
+        generations.incrementAndGet(stripe(personId));
+        Set<String> keys = keysByPerson.remove(personId);
+        if (keys == null) {
+            return;
+        }
+        long currentGeneration = generation(personId);
+        for (String key : keys) {
+            Stripe stripe = stripeFor(key);
+            synchronized (stripe) {
+                CachedPrincipal cached = stripe.entries.get(key);
+                if (cached != null && personId.equals(cached.userDetails().getId()) && cached.generation() != currentGeneration) {
+                    stripe.entries.remove(key);
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void forgetKey(String key, CachedPrincipal cached) {
+        keysByPerson.computeIfPresent(cached.userDetails().getId(), (id, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private static int stripe(Integer personId) {
+        return personId == null ? 0 : Math.floorMod(personId, GENERATION_STRIPES);
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("security.principal.cache.hits", hits, AtomicLong::get)
+                .description("Authenticated principal cache hits")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.principal.cache.misses", misses, AtomicLong::get)
+                .description("Authenticated principal cache misses")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.principal.cache.evictions", evictions, AtomicLong::get)
+                .description("Authenticated principal cache evictions")
+                .register(meterRegistry);
+        Gauge.builder("security.principal.cache.size", this, AuthenticatedPrincipalCache::size)
+                .description("Authenticated principal cache entries")
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private final class Stripe {
+        private final Map<String, CachedPrincipal> entries;
+
+        private Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    forgetKey(eldest.getKey(), eldest.getValue());
+                    evictions.incrementAndGet();
+                    return true;
+                }
+            };
+        }
+    }
+
+    private record CachedPrincipal(CustomUserDetails userDetails, long expiresAt, long generation) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
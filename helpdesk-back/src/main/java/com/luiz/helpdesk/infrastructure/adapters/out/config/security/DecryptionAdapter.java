@@ -1,5 +1,8 @@
 package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -7,22 +10,42 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class DecryptionAdapter {
 
-    @Value("${crypto.secretKey}")
-    private String base64SecretKey;
+    private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
 
-    @Value("${crypto.secretIv}")
-    private String base64SecretIv;
-
-    public DecryptionAdapter() {
+    private final SecretKeySpec keySpec;
+    private final IvParameterSpec ivSpec;
+    private final ThreadLocal<Cipher> cipherHolder = new ThreadLocal<>();
+    private final Timer decryptTimer;
+    private final Counter failureCounter;
 
+    public DecryptionAdapter(@Value("${crypto.secretKey}") String base64SecretKey,
+                             @Value("${crypto.secretIv}") String base64SecretIv,
+                             MeterRegistry meterRegistry) {
+        this.keySpec = createKeySpec(base64SecretKey);
+        this.ivSpec = createIvSpec(base64SecretIv);
+        try {
+            createCipher();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid crypto configuration", e);
+        }
+        this.decryptTimer = Timer.builder("security.decryption.duration")
+                .description("Time spent decrypting client payloads")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("security.decryption.failures")
+                .description("Client payloads that could not be decrypted")
+                .register(meterRegistry);
     }
 
-    private SecretKeySpec getKeySpec() {
+    private static SecretKeySpec createKeySpec(String base64SecretKey) {
         byte[] keyBytes = Base64.getDecoder().decode(base64SecretKey);
         if (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32) {
             throw new IllegalArgumentException("Invalid key length: " + keyBytes.length);
@@ -30,7 +53,7 @@ public class DecryptionAdapter {
         return new SecretKeySpec(keyBytes, "AES");
     }
 
-    private IvParameterSpec getIvSpec() {
+    private static IvParameterSpec createIvSpec(String base64SecretIv) {
         byte[] ivBytes = Base64.getDecoder().decode(base64SecretIv);
         if (ivBytes.length != 16) {
             throw new IllegalArgumentException("Invalid IV length: " + ivBytes.length);
@@ -39,17 +62,40 @@ public class DecryptionAdapter {
     }
 
     public String decrypt(String encryptedData) throws Exception {
+        long start = System.nanoTime();
         try {
             byte[] encryptedBytes = Base64.getDecoder().decode(encryptedData);
-
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, getKeySpec(), getIvSpec());
-
-            byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
-
+            byte[] decryptedBytes = getCipher().doFinal(encryptedBytes);
             return new String(decryptedBytes, StandardCharsets.UTF_8);
         } catch (Exception e) {
+            cipherHolder.remove();
+            failureCounter.increment();
             throw new Exception("Error decrypting data", e);
+        } finally {
+            decryptTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public List<String> decrypt(List<String> encryptedData) throws Exception {
+        List<String> decrypted = new ArrayList<>(encryptedData.size());
+        for (String item : encryptedData) {
+            decrypted.add(item != null ? decrypt(item) : null);
         }
+        return decrypted;
+    }
+
+    private Cipher getCipher() throws GeneralSecurityException {
+        Cipher cipher = cipherHolder.get();
+        if (cipher == null) {
+            cipher = createCipher();
+            cipherHolder.set(cipher);
+        }
+        return cipher;
+    }
+
+    private Cipher createCipher() throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
+        return cipher;
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,12 @@
 package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
 
 import com.luiz.helpdesk.application.ports.in.PersonManageUseCasePort;
+import com.luiz.helpdesk.application.ports.out.SecurityVersionPort;
+import com.luiz.helpdesk.application.ports.out.TokenRevocationPort;
 import com.luiz.helpdesk.domain.enums.Profile;
 import com.luiz.helpdesk.domain.exception.person.PersonNotFoundException;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.TokenClaims;
 import com.luiz.helpdesk.infrastructure.adapters.out.config.CustomUserDetails;
 import com.luiz.helpdesk.infrastructure.adapters.out.config.JwtTokenProvider;
 import io.micrometer.common.lang.NonNull;
@@ -11,7 +14,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,17 +25,45 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String VERIFIED_CLAIMS_ATTRIBUTE = "helpdesk.security.verifiedClaims";
+
+    private static final Map<Profile, List<GrantedAuthority>> AUTHORITIES_BY_PROFILE = Arrays.stream(Profile.values())
+            .collect(Collectors.toMap(
+                    profile -> profile,
+                    profile -> Collections.singletonList(new SimpleGrantedAuthority(profile.getDescription())),
+                    (first, second) -> first,
+                    () -> new EnumMap<>(Profile.class)));
+
     private final JwtTokenProvider jwtTokenProvider;
     private final PersonManageUseCasePort personUseCase;
+    private final SecurityVersionPort securityVersionPort;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final TokenRevocationPort tokenRevocationPort;
+    private final boolean statelessAuthentication;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, PersonManageUseCasePort personUseCase) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   PersonManageUseCasePort personUseCase,
+                                   SecurityVersionPort securityVersionPort,
+                                   AuthenticatedPrincipalCache principalCache,
+                                   TokenRevocationPort tokenRevocationPort,
+                                   @Value("${security.jwt.stateless-authentication:false}") boolean statelessAuthentication) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.personUseCase = personUseCase;
+        this.securityVersionPort = securityVersionPort;
+        this.principalCache = principalCache;
+        this.tokenRevocationPort = tokenRevocationPort;
+        this.statelessAuthentication = statelessAuthentication;
     }
 
     @Override
@@ -41,8 +74,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                authenticateUser(jwt, request);
+            if (jwt != null) {
+                Optional<TokenClaims> claims = jwtTokenProvider.parseVerified(jwt)
+                        .filter(verified -> !tokenRevocationPort.isRevoked(verified.tokenId()));
+                if (claims.isPresent()) {
+                    request.setAttribute(VERIFIED_CLAIMS_ATTRIBUTE, claims.get());
+                    authenticateUser(jwt, claims.get(), request);
+                }
             }
         } catch (Exception ex) {
             throw new ServletException("Failed to process authentication request", ex);
@@ -51,11 +89,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateUser(String jwt, HttpServletRequest request) throws ServletException {
+    private void authenticateUser(String jwt, TokenClaims claims, HttpServletRequest request) throws ServletException {
         try {
-            String email = jwtTokenProvider.getEmailFromToken(jwt);
-            Person person = personUseCase.findPersonByEmail(email);
-            UserDetails userDetails = createUserDetails(person);
+            UserDetails userDetails = canTrustClaims(claims)
+                    ? createUserDetails(claims)
+                    : loadUserDetails(jwt, claims);
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -67,13 +105,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private UserDetails createUserDetails(Person person) {
-        Profile profile = Profile.fromCode(person.getProfile());
+    private boolean canTrustClaims(TokenClaims claims) {
+        return statelessAuthentication
+                && claims.profile() != null
+                && claims.theme() != null
+                && securityVersionPort.isCurrent(claims.id(), claims.securityVersion());
+    }
+
+    private UserDetails loadUserDetails(String jwt, TokenClaims claims) {
+        Optional<CustomUserDetails> cached = principalCache.get(jwt);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long generation = principalCache.generation(claims.id());
+        CustomUserDetails userDetails = createUserDetails(personUseCase.findPersonWithoutAddressByEmail(claims.email()));
+        if (userDetails.getId() != null && userDetails.getId().equals(claims.id())) {
+            principalCache.put(jwt, claims.expiration(), userDetails, generation);
+        }
+        return userDetails;
+    }
+
+    private UserDetails createUserDetails(TokenClaims claims) {
+        return new CustomUserDetails(
+                claims.id(),
+                claims.email(),
+                "",
+                AUTHORITIES_BY_PROFILE.get(Profile.fromCode(claims.profile())),
+                claims.theme().toString(),
+                claims.name(),
+                claims.profile()
+        );
+    }
+
+    private CustomUserDetails createUserDetails(Person person) {
         return new CustomUserDetails(
                 person.getId(),
                 person.getEmail(),
                 person.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority(profile.getDescription())),
+                AUTHORITIES_BY_PROFILE.get(Profile.fromCode(person.getProfile())),
                 person.getTheme().toString(),
                 person.getName(),
                 person.getProfile()
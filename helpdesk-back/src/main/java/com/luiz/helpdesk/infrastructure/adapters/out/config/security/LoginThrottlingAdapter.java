@@ -0,0 +1,77 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import com.luiz.helpdesk.application.ports.out.LoginThrottlePort;
+import com.luiz.helpdesk.domain.exception.auth.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginThrottlingAdapter implements LoginThrottlePort {
+
+    private static final String TOO_MANY_ATTEMPTS_MESSAGE = "Muitas tentativas de login, tente novamente mais tarde";
+
+    private final boolean enabled;
+    private final SlidingWindowRateLimiter emailLimiter;
+    private final SlidingWindowRateLimiter addressLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public LoginThrottlingAdapter(@Value("${security.login-throttle.enabled:true}") boolean enabled,
+                                  @Value("${security.login-throttle.window-seconds:300}") long windowSeconds,
+                                  @Value("${security.login-throttle.max-attempts-per-email:10}") int maxAttemptsPerEmail,
+                                  @Value("${security.login-throttle.max-attempts-per-address:50}") int maxAttemptsPerAddress,
+                                  @Value("${security.login-throttle.max-tracked-keys:10000}") int maxTrackedKeys,
+                                  @Value("${security.login-throttle.stripes:16}") int stripes,
+                                  MeterRegistry meterRegistry) {
+        long windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.enabled = enabled;
+        this.emailLimiter = new SlidingWindowRateLimiter(maxAttemptsPerEmail, windowMillis, stripes, maxTrackedKeys);
+        this.addressLimiter = new SlidingWindowRateLimiter(maxAttemptsPerAddress, windowMillis, stripes, maxTrackedKeys);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("security.login.throttle.tracked", emailLimiter, SlidingWindowRateLimiter::trackedKeys)
+                .tag("key", "email")
+                .register(meterRegistry);
+        Gauge.builder("security.login.throttle.tracked", addressLimiter, SlidingWindowRateLimiter::trackedKeys)
+                .tag("key", "address")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void acquire(String email, String remoteAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (remoteAddress != null) {
+            reject("address", addressLimiter.tryAcquire(remoteAddress, now));
+        }
+        String emailKey = normalize(email);
+        if (emailKey != null) {
+            reject("email", emailLimiter.tryAcquire(emailKey, now));
+        }
+    }
+
+    @Override
+    public void reset(String email) {
+        String emailKey = normalize(email);
+        if (enabled && emailKey != null) {
+            emailLimiter.reset(emailKey);
+        }
+    }
+
+    private void reject(String keyType, long retryAfterMillis) {
+        if (retryAfterMillis > 0) {
+            meterRegistry.counter("security.login.throttle.rejected", "key", keyType).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+            throw new TooManyLoginAttemptsException(TOO_MANY_ATTEMPTS_MESSAGE, retryAfterSeconds);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
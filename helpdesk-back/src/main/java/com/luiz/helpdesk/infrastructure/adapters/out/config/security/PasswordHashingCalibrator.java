@@ -0,0 +1,71 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PasswordHashingCalibrator {
+
+    private static final String CALIBRATION_PASSWORD = "Calibration#Password1";
+    private static final int SAMPLES = 3;
+
+    private final int strength;
+    private final long measuredMillis;
+
+    public PasswordHashingCalibrator(@Value("${security.password-hashing.strength:0}") int fixedStrength,
+                                     @Value("${security.password-hashing.min-strength:10}") int minStrength,
+                                     @Value("${security.password-hashing.max-strength:16}") int maxStrength,
+                                     @Value("${security.password-hashing.target-millis:80}") long targetMillis,
+                                     MeterRegistry meterRegistry) {
+        if (fixedStrength > 0) {
+            this.strength = fixedStrength;
+            this.measuredMillis = -1;
+        } else {
+            long slowestNanos = measure(minStrength);
+            this.strength = selectStrength(slowestNanos, minStrength, maxStrength, TimeUnit.MILLISECONDS.toNanos(targetMillis));
+            this.measuredMillis = TimeUnit.NANOSECONDS.toMillis(slowestNanos << (strength - minStrength));
+        }
+        Gauge.builder("security.password.hashing.bcrypt.strength", this, PasswordHashingCalibrator::getStrength)
+                .description("BCrypt cost selected for new password hashes")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.bcrypt.estimated", this, PasswordHashingCalibrator::getMeasuredMillis)
+                .description("Estimated milliseconds per hash at the selected cost, -1 when not calibrated")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public long getMeasuredMillis() {
+        return measuredMillis;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(strength);
+        probe.encode(CALIBRATION_PASSWORD);
+        long slowest = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            slowest = Math.max(slowest, System.nanoTime() - start);
+        }
+        return slowest;
+    }
+
+    private static int selectStrength(long baseNanos, int minStrength, int maxStrength, long targetNanos) {
+        int selected = minStrength;
+        long estimate = baseNanos;
+        while (selected < maxStrength && estimate * 2 <= targetNanos) {
+            selected++;
+            estimate *= 2;
+        }
+        return selected;
+    }
+}
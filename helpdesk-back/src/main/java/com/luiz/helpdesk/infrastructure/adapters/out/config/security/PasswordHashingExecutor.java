@@ -0,0 +1,131 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import com.luiz.helpdesk.domain.exception.security.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String UNAVAILABLE_MESSAGE = "Serviço de autenticação temporariamente indisponível, tente novamente";
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final long waitDeadlineMillis;
+    private final long retryAfterSeconds;
+    private final Timer waitTimer;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordHashingExecutor(@Value("${security.password-hashing.threads:0}") int threads,
+                                   @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password-hashing.wait-deadline-millis:2000}") long waitDeadlineMillis,
+                                   @Value("${security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                   @Value("${security.password-hashing.bulk-threads:0}") int bulkThreads,
+                                   @Value("${security.password-hashing.bulk-queue-capacity:256}") int bulkQueueCapacity,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("password-hashing-"), new ThreadPoolExecutor.AbortPolicy());
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkQueueCapacity), daemonThreadFactory("password-hashing-bulk-"), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.waitDeadlineMillis = waitDeadlineMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("security.password.hashing.wait")
+                .description("Time password hashing tasks spend queued before running")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer hashTimer = meterRegistry.timer("security.password.hashing.duration", "operation", operation);
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("security.password.hashing.rejected", "reason", "saturated").increment();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds, e);
+        }
+        try {
+            return future.get(waitDeadlineMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("security.password.hashing.rejected", "reason", "deadline").increment();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    public <T> List<T> executeAll(String operation, List<Supplier<T>> tasks) {
+        Timer hashTimer = meterRegistry.timer("security.password.hashing.duration", "operation", operation);
+        List<Callable<T>> callables = tasks.stream()
+                .map(task -> (Callable<T>) () -> hashTimer.record(task))
+                .toList();
+        try {
+            List<T> results = new ArrayList<>(callables.size());
+            for (Future<T> future : bulkExecutor.invokeAll(callables)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import com.luiz.helpdesk.application.ports.out.SecurityVersionPort;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class PersonSecurityVersionAdapter implements SecurityVersionPort {
+
+    private final long epoch = (long) new SecureRandom().nextInt() << 32;
+    private final ConcurrentMap<Integer, Integer> revisions = new ConcurrentHashMap<>();
+
+    @Override
+    public long currentVersion(Integer personId) {
+        if (personId == null) {
+            return epoch;
+        }
+        return epoch | (revisions.getOrDefault(personId, 0) & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public boolean isCurrent(Integer personId, Long version) {
+        return personId != null && version != null && version == currentVersion(personId);
+    }
+
+    @Override
+    public void invalidate(Integer personId) {
+        if (personId != null) {
+            revisions.merge(personId, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SlidingWindowRateLimiter {
+
+    private final int maxAttempts;
+    private final long windowMillis;
+    private final Stripe[] stripes;
+
+    public SlidingWindowRateLimiter(int maxAttempts, long windowMillis, int stripeCount, int maxTrackedKeys) {
+        if (maxAttempts <= 0 || windowMillis <= 0 || stripeCount <= 0 || maxTrackedKeys <= 0) {
+            throw new IllegalArgumentException("Rate limiter settings must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+        this.windowMillis = windowMillis;
+        this.stripes = new Stripe[stripeCount];
+        int keysPerStripe = Math.max(1, maxTrackedKeys / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(keysPerStripe);
+        }
+    }
+
+    /**
+     * Returns 0 when the attempt is allowed and recorded, otherwise the milliseconds until it would be.
+     */
+    public long tryAcquire(String key, long nowMillis) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.computeIfAbsent(key, k -> new Window(maxAttempts));
+            return window.tryAcquire(nowMillis, windowMillis);
+        }
+    }
+
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.windows.remove(key);
+        }
+    }
+
+    public int trackedKeys() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.windows.size();
+            }
+        }
+        return total;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private static final class Stripe {
+        private final Map<String, Window> windows;
+
+        private Stripe(int capacity) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+
+    private static final class Window {
+        private final long[] attempts;
+        private int next;
+
+        private Window(int maxAttempts) {
+            this.attempts = new long[maxAttempts];
+        }
+
+        private long tryAcquire(long nowMillis, long windowMillis) {
+            long oldest = attempts[next];
+            long elapsed = nowMillis - oldest;
+            if (oldest != 0 && elapsed < windowMillis) {
+                return windowMillis - elapsed;
+            }
+            attempts[next] = nowMillis;
+            next = (next + 1) % attempts.length;
+            return 0;
+        }
+    }
+}
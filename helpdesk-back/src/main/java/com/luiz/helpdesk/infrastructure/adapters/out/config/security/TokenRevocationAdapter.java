@@ -0,0 +1,156 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import com.luiz.helpdesk.application.ports.out.TokenRevocationPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class TokenRevocationAdapter implements TokenRevocationPort {
+
+    private final ConcurrentMap<UUID, Long> revokedUntil = new ConcurrentHashMap<>();
+    private final Path storeFile;
+    private final Object fileLock = new Object();
+
+    public TokenRevocationAdapter(@Value("${security.jwt.revocation-file:}") String storeFile,
+                                  MeterRegistry meterRegistry) {
+        this.storeFile = storeFile == null || storeFile.isBlank() ? null : Path.of(storeFile);
+        load();
+        Gauge.builder("security.token.revocations", revokedUntil, Map::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiration) {
+        UUID id = parse(tokenId);
+        if (id == null || expiration == null || !expiration.isAfter(Instant.now())) {
+            return;
+        }
+        long expiresAt = expiration.toEpochMilli();
+        if (revokedUntil.put(id, expiresAt) == null) {
+            append(id, expiresAt);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        UUID id = parse(tokenId);
+        if (id == null) {
+            return false;
+        }
+        Long expiresAt = revokedUntil.get(id);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revokedUntil.remove(id, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation-purge-interval-millis:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        boolean removed = revokedUntil.entrySet().removeIf(entry -> entry.getValue() <= now);
+        if (removed) {
+            compact();
+        }
+    }
+
+    private void load() {
+        if (storeFile == null || !Files.exists(storeFile)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            List<String> lines = Files.readAllLines(storeFile, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] parts = line.split(" ");
+                if (parts.length != 2) {
+                    continue;
+                }
+                UUID id = parse(parts[0]);
+                long expiresAt = Long.parseLong(parts[1]);
+                if (id != null && expiresAt > now) {
+                    revokedUntil.put(id, expiresAt);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Unable to read token revocation store " + storeFile, e);
+        }
+        compact();
+    }
+
+    private void append(UUID id, long expiresAt) {
+        if (storeFile == null) {
+            return;
+        }
+        synchronized (fileLock) {
+            try {
+                createParentDirectories();
+                Files.writeString(storeFile, id + " " + expiresAt + System.lineSeparator(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to persist token revocation", e);
+            }
+        }
+    }
+
+    private void compact() {
+        if (storeFile == null) {
+            return;
+        }
+        synchronized (fileLock) {
+            try {
+                createParentDirectories();
+                Path temporary = storeFile.resolveSibling(storeFile.getFileName() + ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                    for (Map.Entry<UUID, Long> entry : revokedUntil.entrySet()) {
+                        writer.write(entry.getKey() + " " + entry.getValue());
+                        writer.newLine();
+                    }
+                }
+                Files.move(temporary, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to compact token revocation store", e);
+            }
+        }
+    }
+
+    private void createParentDirectories() throws IOException {
+        Path parent = storeFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    private static UUID parse(String tokenId) {
+        if (tokenId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(tokenId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
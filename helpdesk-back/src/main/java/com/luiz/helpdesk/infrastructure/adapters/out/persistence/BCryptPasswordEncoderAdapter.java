@@ -1,26 +0,0 @@
-package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
-
-import com.luiz.helpdesk.application.ports.out.PasswordEncoderPort;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.stereotype.Component;
-
-@Component
-public class BCryptPasswordEncoderAdapter implements PasswordEncoderPort {
-
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
-
-    public BCryptPasswordEncoderAdapter(BCryptPasswordEncoder bCryptPasswordEncoder) {
-        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
-    }
-
-    @Override
-    public String encode(String rawPassword) {
-        return bCryptPasswordEncoder.encode(rawPassword);
-    }
-
-    @Override
-    public boolean matches(String rawPassword, String encodedPassword) {
-        return bCryptPasswordEncoder.matches(rawPassword, encodedPassword);
-    }
-
-}
\ No newline at end of file
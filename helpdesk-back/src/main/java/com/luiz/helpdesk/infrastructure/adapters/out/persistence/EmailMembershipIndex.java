@@ -0,0 +1,180 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.springdata.JpaPersonRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+@Component
+public class EmailMembershipIndex {
+
+    private final JpaPersonRepository jpaPersonRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final double targetFalsePositiveRate;
+    private final int minCapacity;
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter current;
+    private BloomFilter building;
+
+    public EmailMembershipIndex(JpaPersonRepository jpaPersonRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${persistence.email-filter.enabled:true}") boolean enabled,
+                                @Value("${persistence.email-filter.false-positive-rate:0.01}") double targetFalsePositiveRate,
+                                @Value("${persistence.email-filter.min-capacity:1024}") int minCapacity,
+                                MeterRegistry meterRegistry) {
+        this.jpaPersonRepository = jpaPersonRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        this.minCapacity = minCapacity;
+        Gauge.builder("persistence.email.filter.false.positive.rate", this, EmailMembershipIndex::estimatedFalsePositiveRate)
+                .description("Estimated false positive rate of the registered e-mail filter")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(String email) {
+        BloomFilter filter = current;
+        return filter == null || email == null || filter.mightContain(email);
+    }
+
+    public void add(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        addNow(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(email);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${persistence.email-filter.rebuild-interval-millis:3600000}",
+            initialDelayString = "${persistence.email-filter.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long expected = Math.max(minCapacity, jpaPersonRepository.count() * 2);
+        BloomFilter next = BloomFilter.create(expected, targetFalsePositiveRate);
+        synchronized (writeLock) {
+            building = next;
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = jpaPersonRepository.streamAllEmailKeys()) {
+                    emails.forEach(next::put);
+                }
+            });
+            synchronized (writeLock) {
+                current = next;
+            }
+        } finally {
+            synchronized (writeLock) {
+                building = null;
+            }
+        }
+    }
+
+    public double estimatedFalsePositiveRate() {
+        BloomFilter filter = current;
+        return filter != null ? filter.estimatedFalsePositiveRate() : 1.0;
+    }
+
+    private void addNow(String email) {
+        synchronized (writeLock) {
+            if (current != null) {
+                current.put(email);
+            }
+            if (building != null) {
+                building.put(email);
+            }
+        }
+    }
+
+    private static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        private BloomFilter(long bitCount, int hashCount) {
+            this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+            this.bitCount = (long) words.length() * 64;
+            this.hashCount = hashCount;
+        }
+
+        private static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+            int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+            return new BloomFilter(Math.max(64, bits), hashes);
+        }
+
+        private void put(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+        }
+
+        private boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private double estimatedFalsePositiveRate() {
+            long setBits = 0;
+            for (int i = 0; i < words.length(); i++) {
+                setBits += Long.bitCount(words.get(i));
+            }
+            return Math.pow((double) setBits / bitCount, hashCount);
+        }
+
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+            value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+            return value ^ (value >>> 31);
+        }
+    }
+}
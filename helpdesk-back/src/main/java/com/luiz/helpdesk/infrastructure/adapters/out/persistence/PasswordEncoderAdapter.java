@@ -0,0 +1,46 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.application.ports.out.PasswordEncoderPort;
+import com.luiz.helpdesk.infrastructure.adapters.out.config.security.PasswordHashingExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordEncoderAdapter implements PasswordEncoderPort {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public PasswordEncoderAdapter(PasswordEncoder passwordEncoder,
+                                  PasswordHashingExecutor passwordHashingExecutor) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return passwordHashingExecutor.execute("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Supplier<String>> tasks = rawPasswords.stream()
+                .map(rawPassword -> (Supplier<String>) () -> passwordEncoder.encode(rawPassword))
+                .toList();
+        return passwordHashingExecutor.executeAll("encode", tasks);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+}
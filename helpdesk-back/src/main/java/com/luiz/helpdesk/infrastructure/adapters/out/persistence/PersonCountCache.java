@@ -0,0 +1,90 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class PersonCountCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentMap<Map<String, Object>, CachedCount> counts = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PersonCountCache(@Value("${persistence.count-cache.enabled:true}") boolean enabled,
+                            @Value("${persistence.count-cache.max-size:1000}") int maxSize,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        registerMetrics(meterRegistry);
+    }
+
+    public long count(Map<String, Object> boundFilters, LongSupplier counter) {
+        if (!enabled) {
+            return counter.getAsLong();
+        }
+        long currentGeneration = generation.get();
+        CachedCount cached = counts.get(boundFilters);
+        if (cached != null && cached.generation() == currentGeneration) {
+            hits.incrementAndGet();
+            return cached.count();
+        }
+        misses.incrementAndGet();
+        long count = counter.getAsLong();
+        ensureCapacity(currentGeneration);
+        counts.put(boundFilters, new CachedCount(currentGeneration, count));
+        return count;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void ensureCapacity(long currentGeneration) {
+        if (counts.size() < maxSize) {
+            return;
+        }
+        counts.values().removeIf(cached -> cached.generation() != currentGeneration);
+        if (counts.size() >= maxSize) {
+            counts.clear();
+        }
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("persistence.person.count.cache.hits", hits, AtomicLong::get)
+                .description("Person count cache hits")
+                .register(meterRegistry);
+        FunctionCounter.builder("persistence.person.count.cache.misses", misses, AtomicLong::get)
+                .description("Person count cache misses")
+                .register(meterRegistry);
+        Gauge.builder("persistence.person.count.cache.size", counts, ConcurrentMap::size)
+                .description("Person count cache entries")
+                .register(meterRegistry);
+    }
+
+    private record CachedCount(long generation, long count) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonFilterOperationsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+public class PersonIndexCoverageCheck {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersonIndexCoverageCheck.class);
+    private static final String TABLE = "persons";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PersonIndexCoverageCheck(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        unsupportedFields().forEach(field -> LOGGER.warn("No index on {} supports {}", TABLE, field));
+    }
+
+    public List<String> unsupportedFields() {
+        Set<String> leadingColumns = leadingIndexColumns();
+        List<String> unsupported = new ArrayList<>();
+        for (String filter : new TreeSet<>(PersonFilterOperationsUtil.getFilterOperations().keySet())) {
+            String column = PersonFilterOperationsUtil.FILTER_COLUMNS.get(filter);
+            if (column == null || !leadingColumns.contains(column)) {
+                unsupported.add("filter " + filter);
+            }
+        }
+        for (String sort : new TreeSet<>(PersonFilterOperationsUtil.SORTABLE_COLUMNS.keySet())) {
+            if (!leadingColumns.contains(PersonFilterOperationsUtil.SORTABLE_COLUMNS.get(sort))) {
+                unsupported.add("sort " + sort);
+            }
+        }
+        return unsupported;
+    }
+
+    private Set<String> leadingIndexColumns() {
+        Set<String> columns = jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Set<String> leading = new HashSet<>();
+            for (String name : new String[]{TABLE, TABLE.toUpperCase(Locale.ROOT)}) {
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, name, false, true)) {
+                    while (indexes.next()) {
+                        String column = indexes.getString("COLUMN_NAME");
+                        if (indexes.getShort("ORDINAL_POSITION") == 1 && column != null) {
+                            leading.add(column.toLowerCase(Locale.ROOT));
+                        }
+                    }
+                }
+            }
+            return leading;
+        });
+        return columns != null ? columns : Set.of();
+    }
+}
@@ -2,33 +2,62 @@ package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
 
 import com.luiz.helpdesk.application.ports.out.PersonPersistenceOutputPort;
 import com.luiz.helpdesk.domain.exception.person.PersonNotFoundException;
+import com.luiz.helpdesk.domain.model.CursorPagination;
 import com.luiz.helpdesk.domain.model.Pagination;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonFieldSelection;
+import com.luiz.helpdesk.domain.model.PersonUniqueKeys;
+import com.luiz.helpdesk.domain.model.SlicePagination;
 import com.luiz.helpdesk.domain.validator.PaginationValidator;
+import com.luiz.helpdesk.infrastructure.adapters.out.config.security.AuthenticatedPrincipalCache;
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.PersonEntity;
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.springdata.JpaPersonRepository;
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PaginationUtil;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonCursorUtil;
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonFilterOperationsUtil;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonQueryPlan;
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.SpecificationUtil;
+import jakarta.persistence.Tuple;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Component
 public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPort {
 
     private final JpaPersonRepository jpaPersonRepository;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final EmailMembershipIndex emailMembershipIndex;
+    private final PersonCountCache personCountCache;
+    private final PersonTrigramIndex personTrigramIndex;
+    private final PersonQueryPlanCache personQueryPlanCache;
 
-    public PersonPersistenceOutputAdapter(JpaPersonRepository jpaPersonRepository) {
+    public PersonPersistenceOutputAdapter(JpaPersonRepository jpaPersonRepository,
+                                          AuthenticatedPrincipalCache principalCache,
+                                          EmailMembershipIndex emailMembershipIndex,
+                                          PersonCountCache personCountCache,
+                                          PersonTrigramIndex personTrigramIndex,
+                                          PersonQueryPlanCache personQueryPlanCache) {
         this.jpaPersonRepository = jpaPersonRepository;
-
+        this.principalCache = principalCache;
+        this.emailMembershipIndex = emailMembershipIndex;
+        this.personCountCache = personCountCache;
+        this.personTrigramIndex = personTrigramIndex;
+        this.personQueryPlanCache = personQueryPlanCache;
     }
 
     @Override
@@ -36,9 +65,22 @@ public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPo
     public Person save(Person person) {
         PersonEntity personEntity = PersonEntity.fromDomainModel(person);
         PersonEntity savedEntity = jpaPersonRepository.save(personEntity);
+        emailMembershipIndex.add(savedEntity.getEmailKey());
+        personCountCache.invalidate();
         return savedEntity.toDomainModel();
     }
 
+    @Override
+    @Transactional
+    public List<Person> saveAll(List<Person> persons) {
+        List<PersonEntity> entities = persons.stream().map(PersonEntity::fromDomainModel).toList();
+        List<PersonEntity> savedEntities = jpaPersonRepository.saveAll(entities);
+        jpaPersonRepository.flush();
+        savedEntities.forEach(entity -> emailMembershipIndex.add(entity.getEmailKey()));
+        personCountCache.invalidate();
+        return savedEntities.stream().map(PersonEntity::toDomainModel).toList();
+    }
+
     @Override
     @Transactional
     public Person update(Person person) {
@@ -46,12 +88,15 @@ public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPo
                 .orElseThrow(() -> new PersonNotFoundException("Person not found with id: " + person.getId()));
         existingEntity.updateFromDomainModel(person);
         PersonEntity updatedEntity = jpaPersonRepository.save(existingEntity);
+        emailMembershipIndex.add(updatedEntity.getEmailKey());
+        principalCache.evictPerson(updatedEntity.getId());
+        personCountCache.invalidate();
         return updatedEntity.toDomainModel();
     }
 
     @Override
     public Optional<Person> findById(Integer id) {
-        return jpaPersonRepository.findById(id).map(PersonEntity::toDomainModel);
+        return jpaPersonRepository.findByIdWithAssociations(id).map(PersonEntity::toDomainModel);
     }
 
     @Override
@@ -60,6 +105,8 @@ public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPo
         return jpaPersonRepository.findById(id)
                 .map(entity -> {
                     jpaPersonRepository.delete(entity);
+                    principalCache.evictPerson(id);
+                    personCountCache.invalidate();
                     return true;
                 })
                 .orElse(false);
@@ -67,12 +114,30 @@ public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPo
 
     @Override
     public Optional<Person> findByCpf(String cpf) {
-        return jpaPersonRepository.findByCpf(cpf).map(PersonEntity::toDomainModel);
+        return jpaPersonRepository.findWithAddressByCpfKey(Person.cpfKeyOf(cpf)).map(PersonEntity::toDomainModel);
     }
 
     @Override
     public Optional<Person> findByEmail(String email) {
-        return jpaPersonRepository.findByEmail(email).map(PersonEntity::toDomainModel);
+        String emailKey = Person.emailKeyOf(email);
+        if (!emailMembershipIndex.mightContain(emailKey)) {
+            return Optional.empty();
+        }
+        return jpaPersonRepository.findWithAddressByEmailKey(emailKey).map(PersonEntity::toDomainModel);
+    }
+
+    @Override
+    public Optional<Person> findByEmailWithoutAddress(String email) {
+        String emailKey = Person.emailKeyOf(email);
+        if (!emailMembershipIndex.mightContain(emailKey)) {
+            return Optional.empty();
+        }
+        return jpaPersonRepository.findByEmailKey(emailKey).map(PersonEntity::toDomainModelWithoutAddress);
+    }
+
+    @Override
+    public boolean mightExistByEmail(String email) {
+        return emailMembershipIndex.mightContain(Person.emailKeyOf(email));
     }
 
     @Override
@@ -80,14 +145,31 @@ public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPo
         return jpaPersonRepository.existsById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PersonUniqueKeys findExistingUniqueKeys(Set<String> cpfKeys, Set<String> emailKeys) {
+        Set<String> existingCpfs = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        if (cpfKeys.isEmpty() && emailKeys.isEmpty()) {
+            return new PersonUniqueKeys(existingCpfs, existingEmails);
+        }
+        jpaPersonRepository.findKeysByCpfKeyInOrEmailKeyIn(cpfKeys, emailKeys).forEach(row -> {
+            existingCpfs.add((String) row[0]);
+            existingEmails.add((String) row[1]);
+        });
+        return new PersonUniqueKeys(existingCpfs, existingEmails);
+    }
+
     @Override
     public boolean existsByCpfAndIdNot(String cpf, Integer id) {
-        return jpaPersonRepository.existsByCpfAndIdNot(cpf, id);
+        String cpfKey = Person.cpfKeyOf(cpf);
+        return id == null ? jpaPersonRepository.existsByCpfKey(cpfKey) : jpaPersonRepository.existsByCpfKeyAndIdNot(cpfKey, id);
     }
 
     @Override
     public boolean existsByEmailAndIdNot(String email, Integer id) {
-        return jpaPersonRepository.existsByEmailAndIdNot(email, id);
+        String emailKey = Person.emailKeyOf(email);
+        return id == null ? jpaPersonRepository.existsByEmailKey(emailKey) : jpaPersonRepository.existsByEmailKeyAndIdNot(emailKey, id);
     }
 
 
@@ -98,22 +180,76 @@ public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPo
 
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Person> getAllPersonsWithFilters(Pagination<?> pagination, String sortBy, String sortDirection, Map<String, String> filters) {
-        Sort sort = SpecificationUtil.createSort(sortBy, sortDirection);
-        PageRequest pageRequest = PageRequest.of(pagination.pageNumber(), pagination.pageSize(), sort);
-        Specification<PersonEntity> spec = SpecificationUtil.createSpecification(filters, PersonFilterOperationsUtil.getFilterOperations());
-        Page<PersonEntity> page = jpaPersonRepository.findAll(spec, pageRequest);
+        PageRequest pageRequest = createPageRequest(pagination, sortBy, sortDirection);
+        Optional<Set<Integer>> candidateIds = personTrigramIndex.candidates(filters);
+        PersonQueryPlan plan = personQueryPlanCache.plan(filters, candidateIds.isPresent(), pageRequest.getSort());
+        Map<String, Object> parameters = plan.bind(filters, candidateIds.orElse(null));
+        Slice<PersonEntity> slice = jpaPersonRepository.findSlice(plan, parameters, pageRequest);
+        Page<PersonEntity> page = PageableExecutionUtils.getPage(slice.getContent(), pageRequest,
+                () -> personCountCache.count(PersonQueryPlan.bindFilters(filters), () -> jpaPersonRepository.count(plan, parameters)));
         return PaginationUtil.mapPageToPagination(page, PersonEntity::toDomainModel);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Map<String, Object>> getPersonFieldsWithFilters(Pagination<?> pagination, PersonFieldSelection selection, String sortBy, String sortDirection, Map<String, String> filters) {
+        PageRequest pageRequest = createPageRequest(pagination, sortBy, sortDirection);
+        Specification<PersonEntity> spec = filterSpecification(filters);
+        List<String> addressFields = selection.includeAddress() ? PersonFieldSelection.ADDRESS_FIELDS : List.of();
+        Slice<Tuple> slice = jpaPersonRepository.findProjectedSlice(spec, selection.fields(), addressFields, pageRequest);
+        Page<Tuple> page = PageableExecutionUtils.getPage(slice.getContent(), pageRequest,
+                () -> personCountCache.count(PersonQueryPlan.bindFilters(filters), () -> jpaPersonRepository.count(spec)));
+        return PaginationUtil.mapPageToPagination(page, tuple -> toFieldMap(tuple, selection.fields(), addressFields));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachPersonWithFilters(String sortBy, String sortDirection, Map<String, String> filters, Consumer<Person> action) {
+        Specification<PersonEntity> spec = filterSpecification(filters);
+        Sort sort = createSort(sortBy, sortDirection);
+        return jpaPersonRepository.streamEach(spec, sort, entity -> action.accept(entity.toDomainModel()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SlicePagination<Person> getPersonSliceWithFilters(Pagination<?> pagination, String sortBy, String sortDirection, Map<String, String> filters) {
+        PageRequest pageRequest = createPageRequest(pagination, sortBy, sortDirection);
+        Optional<Set<Integer>> candidateIds = personTrigramIndex.candidates(filters);
+        PersonQueryPlan plan = personQueryPlanCache.plan(filters, candidateIds.isPresent(), pageRequest.getSort());
+        Slice<PersonEntity> slice = jpaPersonRepository.findSlice(plan, plan.bind(filters, candidateIds.orElse(null)), pageRequest);
+        return new SlicePagination<>(
+                slice.getNumber(),
+                slice.getSize(),
+                slice.getContent().stream().map(PersonEntity::toDomainModel).toList(),
+                slice.hasNext()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagination<Person> getPersonsAfterCursor(String cursor, int pageSize, String sortBy, String sortDirection, Map<String, String> filters) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = PersonCursorUtil.sort(sortBy, direction);
+        Specification<PersonEntity> spec = filterSpecification(filters)
+                .and(PersonCursorUtil.after(cursor, sortBy, direction))
+                .and(PersonCursorUtil.fetchAddress());
+        List<PersonEntity> rows = jpaPersonRepository.findBy(spec, query -> query.sortBy(sort).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        List<PersonEntity> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? PersonCursorUtil.encode(sortBy, direction, content.get(content.size() - 1)) : null;
+        return new CursorPagination<>(pageSize, content.stream().map(PersonEntity::toDomainModel).toList(), cursor, nextCursor);
+    }
+
     @Override
     public Optional<Person> findByEmailAndIdNot(String email, Integer id) {
-        return jpaPersonRepository.findByEmailAndIdNot(email, id).map(PersonEntity::toDomainModel);
+        return jpaPersonRepository.findByEmailKeyAndIdNot(Person.emailKeyOf(email), id).map(PersonEntity::toDomainModel);
     }
 
     @Override
     public Person getCurrentUser(Integer id) {
-        return jpaPersonRepository.findById(id)
+        return jpaPersonRepository.findByIdWithAssociations(id)
                 .map(PersonEntity::toDomainModel)
                 .orElseThrow(() -> new PersonNotFoundException("Person not found with id: " + id));
     }
@@ -125,6 +261,47 @@ public class PersonPersistenceOutputAdapter implements PersonPersistenceOutputPo
                 .orElseThrow(() -> new PersonNotFoundException("Person not found with id: " + id));
         existingEntity.updateCurrentUser(updatedPerson.getTheme(), newPassword);
         PersonEntity updatedEntity = jpaPersonRepository.save(existingEntity);
+        principalCache.evictPerson(id);
+        personCountCache.invalidate();
         return updatedEntity.toDomainModel();
     }
-}
\ No newline at end of file
+
+    @Transactional
+    @Override
+    public void updatePassword(Integer id, String encodedPassword) {
+        PersonEntity existingEntity = jpaPersonRepository.findById(id)
+                .orElseThrow(() -> new PersonNotFoundException("Person not found with id: " + id));
+        existingEntity.setPassword(encodedPassword);
+        jpaPersonRepository.save(existingEntity);
+        personCountCache.invalidate();
+    }
+
+    private Map<String, Object> toFieldMap(Tuple tuple, List<String> personFields, List<String> addressFields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        personFields.forEach(field -> values.put(field, tuple.get(field)));
+        if (!addressFields.isEmpty()) {
+            Map<String, Object> address = new LinkedHashMap<>();
+            addressFields.forEach(field -> address.put(field, tuple.get(JpaPersonRepository.ADDRESS_ALIAS_PREFIX + field)));
+            values.put(PersonFieldSelection.ADDRESS, address.get("id") != null ? address : null);
+        }
+        return values;
+    }
+
+    private Specification<PersonEntity> filterSpecification(Map<String, String> filters) {
+        Specification<PersonEntity> spec = SpecificationUtil.createSpecification(filters, PersonFilterOperationsUtil.getFilterOperations());
+        return personTrigramIndex.candidates(filters)
+                .map(ids -> spec.and(PersonFilterOperationsUtil.<PersonEntity>idIn(ids)))
+                .orElse(spec);
+    }
+
+    private PageRequest createPageRequest(Pagination<?> pagination, String sortBy, String sortDirection) {
+        return PageRequest.of(pagination.pageNumber(), pagination.pageSize(), createSort(sortBy, sortDirection));
+    }
+
+    private Sort createSort(String sortBy, String sortDirection) {
+        Sort sort = SpecificationUtil.createSort(sortBy, sortDirection, PersonFilterOperationsUtil.SORTABLE_COLUMNS.keySet());
+        return sort.getOrderFor("id") != null
+                ? sort
+                : sort.and(Sort.by(Sort.Direction.fromString(sortDirection), "id"));
+    }
+}
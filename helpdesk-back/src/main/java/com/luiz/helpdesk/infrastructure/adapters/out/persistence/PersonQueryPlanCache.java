@@ -0,0 +1,60 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonQueryPlan;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PersonQueryPlanCache {
+
+    private final int maxSize;
+    private final ConcurrentMap<String, PersonQueryPlan> plans = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PersonQueryPlanCache(@Value("${persistence.query-plan-cache.max-size:256}") int maxSize,
+                                MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        registerMetrics(meterRegistry);
+    }
+
+    public PersonQueryPlan plan(Map<String, String> filters, boolean candidateIds, Sort sort) {
+        Set<String> filterKeys = PersonQueryPlan.activeFilterKeys(filters);
+        String signature = PersonQueryPlan.signature(filterKeys, candidateIds, sort);
+        PersonQueryPlan cached = plans.get(signature);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        PersonQueryPlan plan = PersonQueryPlan.compile(filterKeys, candidateIds, sort);
+        if (plans.size() >= maxSize) {
+            plans.clear();
+        }
+        plans.put(signature, plan);
+        return plan;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("persistence.person.query.plan.cache.hits", hits, AtomicLong::get)
+                .description("Person query plan cache hits")
+                .register(meterRegistry);
+        FunctionCounter.builder("persistence.person.query.plan.cache.misses", misses, AtomicLong::get)
+                .description("Person query plan cache misses")
+                .register(meterRegistry);
+        Gauge.builder("persistence.person.query.plan.cache.size", plans, ConcurrentMap::size)
+                .description("Person query plan cache entries")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,294 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.springdata.JpaPersonRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Component
+public class PersonTrigramIndex {
+
+    public static final List<String> INDEXED_FIELDS = List.of("name", "email");
+
+    private static final int GRAM_SIZE = 3;
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+
+    private final JpaPersonRepository jpaPersonRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final long maxAgeMillis;
+    private final Timer queryTimer;
+    private final Object writeLock = new Object();
+    private final Object rebuildLock = new Object();
+
+    private volatile Postings current;
+    private Postings building;
+    private volatile long builtAt;
+    private volatile boolean stale;
+    private volatile long lastBuildMillis;
+
+    public PersonTrigramIndex(JpaPersonRepository jpaPersonRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${persistence.search-index.enabled:true}") boolean enabled,
+                              @Value("${persistence.search-index.max-candidates:10000}") int maxCandidates,
+                              @Value("${persistence.search-index.max-age-millis:600000}") long maxAgeMillis,
+                              MeterRegistry meterRegistry) {
+        this.jpaPersonRepository = jpaPersonRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.maxAgeMillis = maxAgeMillis;
+        this.queryTimer = Timer.builder("persistence.person.search.index.query")
+                .description("Time to resolve name and e-mail filters to candidate ids")
+                .register(meterRegistry);
+        registerMetrics(meterRegistry);
+    }
+
+    public Optional<Set<Integer>> candidates(Map<String, String> filters) {
+        Postings postings = current;
+        if (postings == null || stale || System.currentTimeMillis() - builtAt > maxAgeMillis) {
+            return Optional.empty();
+        }
+        return queryTimer.record(() -> {
+            Set<Integer> result = null;
+            for (String field : INDEXED_FIELDS) {
+                String value = normalize(field, filters.get(field));
+                if (value == null || value.length() < GRAM_SIZE) {
+                    continue;
+                }
+                int[] ids = postings.search(value, maxCandidates);
+                if (ids == null) {
+                    continue;
+                }
+                Set<Integer> fieldIds = new HashSet<>(ids.length * 2);
+                for (int id : ids) {
+                    if (result == null || result.contains(id)) {
+                        fieldIds.add(id);
+                    }
+                }
+                result = fieldIds;
+            }
+            return Optional.ofNullable(result);
+        });
+    }
+
+    public void add(Integer id, String name, String emailKey) {
+        if (!enabled || id == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (current != null) {
+                current.add(id, name, emailKey);
+            }
+            if (building != null) {
+                building.add(id, name, emailKey);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${persistence.search-index.verify-interval-millis:10000}",
+            initialDelayString = "${persistence.search-index.verify-interval-millis:10000}")
+    public void verify() {
+        Postings postings = current;
+        if (!enabled || postings == null) {
+            return;
+        }
+        Integer storedMaxId = readOnlyTransaction.execute(status -> jpaPersonRepository.findMaxId());
+        if (storedMaxId != null && storedMaxId > postings.maxId()) {
+            stale = true;
+            rebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${persistence.search-index.rebuild-interval-millis:300000}",
+            initialDelayString = "${persistence.search-index.rebuild-interval-millis:300000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            long startedAt = System.currentTimeMillis();
+            Postings next = new Postings();
+            synchronized (writeLock) {
+                building = next;
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Object[]> rows = jpaPersonRepository.streamSearchableFields()) {
+                        rows.forEach(row -> next.add((Integer) row[0], (String) row[1], (String) row[2]));
+                    }
+                });
+                synchronized (writeLock) {
+                    current = next;
+                    builtAt = startedAt;
+                    stale = false;
+                }
+            } finally {
+                synchronized (writeLock) {
+                    building = null;
+                }
+            }
+            lastBuildMillis = System.currentTimeMillis() - startedAt;
+        }
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("persistence.person.search.index.trigrams", this, index -> index.current != null ? index.current.trigrams() : 0)
+                .description("Distinct trigrams in the person search index")
+                .register(meterRegistry);
+        Gauge.builder("persistence.person.search.index.postings", this, index -> index.current != null ? index.current.postings() : 0)
+                .description("Ids stored across all person search index postings")
+                .register(meterRegistry);
+        Gauge.builder("persistence.person.search.index.memory", this, index -> index.current != null ? index.current.estimatedBytes() : 0)
+                .description("Estimated heap used by the person search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("persistence.person.search.index.build.duration", this, index -> index.lastBuildMillis)
+                .description("Duration of the last person search index build")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    private static String normalize(String field, String value) {
+        if (value == null) {
+            return null;
+        }
+        return "email".equals(field) ? Person.emailKeyOf(value) : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static final class Postings {
+        private final ConcurrentMap<Long, IdList> lists = new ConcurrentHashMap<>();
+        private final AtomicInteger maxId = new AtomicInteger(Integer.MIN_VALUE);
+
+        private void add(int id, String name, String emailKey) {
+            addField(id, name);
+            addField(id, emailKey);
+            maxId.accumulateAndGet(id, Math::max);
+        }
+
+        private int maxId() {
+            return maxId.get();
+        }
+
+        private void addField(int id, String value) {
+            if (value == null) {
+                return;
+            }
+            String normalized = value.toLowerCase(Locale.ROOT);
+            for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+                lists.computeIfAbsent(trigram(normalized, i), key -> new IdList()).add(id);
+            }
+        }
+
+        private int[] search(String value, int maxCandidates) {
+            List<IdList> matches = new ArrayList<>();
+            for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+                IdList list = lists.get(trigram(value, i));
+                if (list == null) {
+                    return new int[0];
+                }
+                matches.add(list);
+            }
+            matches.sort(Comparator.comparingInt(IdList::size));
+            if (matches.get(0).size() > maxCandidates) {
+                return null;
+            }
+            int[] candidates = matches.get(0).snapshot();
+            int size = candidates.length;
+            for (int i = 1; i < matches.size() && size > 0; i++) {
+                IdList list = matches.get(i);
+                int kept = 0;
+                for (int j = 0; j < size; j++) {
+                    if (list.contains(candidates[j])) {
+                        candidates[kept++] = candidates[j];
+                    }
+                }
+                size = kept;
+            }
+            return size <= maxCandidates ? Arrays.copyOf(candidates, size) : null;
+        }
+
+        private int trigrams() {
+            return lists.size();
+        }
+
+        private long postings() {
+            return lists.values().stream().mapToLong(IdList::size).sum();
+        }
+
+        private long estimatedBytes() {
+            return lists.values().stream().mapToLong(list -> ENTRY_OVERHEAD_BYTES + list.capacity() * 4L).sum();
+        }
+    }
+
+    private static final class IdList {
+        private int[] ids = new int[4];
+        private int size;
+
+        private synchronized void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) {
+                    return;
+                }
+                insert(-position - 1, id);
+                return;
+            }
+            insert(size, id);
+        }
+
+        private void insert(int position, int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private synchronized boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private synchronized int[] snapshot() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized int capacity() {
+            return ids.length;
+        }
+    }
+}
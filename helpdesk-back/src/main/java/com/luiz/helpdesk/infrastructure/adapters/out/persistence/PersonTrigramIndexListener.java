@@ -0,0 +1,23 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.PersonEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PersonTrigramIndexListener {
+
+    private final PersonTrigramIndex personTrigramIndex;
+
+    public PersonTrigramIndexListener(@Lazy PersonTrigramIndex personTrigramIndex) {
+        this.personTrigramIndex = personTrigramIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void index(PersonEntity person) {
+        personTrigramIndex.add(person.getId(), person.getName(), person.getEmailKey());
+    }
+}
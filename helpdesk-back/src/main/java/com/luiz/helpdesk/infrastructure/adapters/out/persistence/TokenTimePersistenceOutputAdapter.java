@@ -10,17 +10,23 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 public class TokenTimePersistenceOutputAdapter implements TokenTimePersistenceOutputPort {
 
     private final JpaTokenTimeRepository jpaTokenTimeRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private volatile TokenTimeSnapshot snapshot;
 
     @Value("${root.token.expiration.time.minutes}")
     private BigDecimal rootTokenExpirationTimeMinutes;
@@ -34,8 +40,12 @@ public class TokenTimePersistenceOutputAdapter implements TokenTimePersistenceOu
     @Value("${root.token.update.interval.minutes}")
     private BigDecimal rootTokenUpdateIntervalMinutes;
 
-    public TokenTimePersistenceOutputAdapter(JpaTokenTimeRepository jpaTokenTimeRepository) {
+    public TokenTimePersistenceOutputAdapter(JpaTokenTimeRepository jpaTokenTimeRepository,
+                                             PlatformTransactionManager transactionManager) {
         this.jpaTokenTimeRepository = jpaTokenTimeRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setReadOnly(true);
     }
 
     @Override
@@ -46,6 +56,7 @@ public class TokenTimePersistenceOutputAdapter implements TokenTimePersistenceOu
         }
         TokenTimeProfilesEntity entity = TokenTimeProfilesEntity.fromDomainModel(tokenTimeProfile);
         TokenTimeProfilesEntity savedEntity = jpaTokenTimeRepository.save(entity);
+        rebuildSnapshotAfterCommit();
         return savedEntity.toDomainModel();
     }
 
@@ -55,8 +66,7 @@ public class TokenTimePersistenceOutputAdapter implements TokenTimePersistenceOu
             throw new IllegalArgumentException("Profile code cannot be null");
         }
         Profile profile = Profile.fromCode(profileCode);
-        return jpaTokenTimeRepository.findByProfile(profile.getCode())
-                .map(TokenTimeProfilesEntity::toDomainModel);
+        return snapshot().findStored(profile);
     }
 
     @Override
@@ -65,17 +75,12 @@ public class TokenTimePersistenceOutputAdapter implements TokenTimePersistenceOu
             throw new IllegalArgumentException("Profile code cannot be null");
         }
         Profile profile = Profile.fromCode(profileCode);
-        if (profile == Profile.ROOT) {
-            return Optional.of(createRootTokenTimeProfile());
-        }
-        return findByProfile(profileCode);
+        return snapshot().find(profile);
     }
 
     @Override
     public List<TokenTimeProfile> findAllTokenTime() {
-        return jpaTokenTimeRepository.findAll().stream()
-                .map(TokenTimeProfilesEntity::toDomainModel)
-                .collect(Collectors.toList());
+        return snapshot().storedProfiles();
     }
 
     @Override
@@ -101,22 +106,45 @@ public class TokenTimePersistenceOutputAdapter implements TokenTimePersistenceOu
                 .map(existingEntity -> {
                     existingEntity.updateFromDomainModel(tokenTimeProfile);
                     TokenTimeProfilesEntity updatedEntity = jpaTokenTimeRepository.save(existingEntity);
+                    rebuildSnapshotAfterCommit();
                     return updatedEntity.toDomainModel();
                 });
     }
 
     @Override
     public long getTokenExpirationTimeInMillis(Profile profile) {
-        if (profile == Profile.ROOT) {
-            return convertToMillis(rootTokenExpirationTimeMinutes).longValue();
+        return snapshot().tokenExpirationTimeInMillis(profile);
+    }
+
+    private TokenTimeSnapshot snapshot() {
+        TokenTimeSnapshot current = snapshot;
+        if (current == null) {
+            current = rebuildSnapshot();
+        }
+        return current;
+    }
+
+    private void rebuildSnapshotAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuildSnapshot();
+                }
+            });
+        } else {
+            rebuildSnapshot();
         }
-        return jpaTokenTimeRepository.findByProfile(profile.getCode())
-                .map(entity -> convertToMillis(entity.getTokenExpirationTimeMinutes()).longValue())
-                .orElse(0L);
     }
 
-    private BigDecimal convertToMillis(BigDecimal minutes) {
-        return minutes.multiply(BigDecimal.valueOf(60000));
+    private synchronized TokenTimeSnapshot rebuildSnapshot() {
+        List<TokenTimeProfile> storedProfiles = snapshotTransaction.execute(status ->
+                jpaTokenTimeRepository.findAll().stream()
+                        .map(TokenTimeProfilesEntity::toDomainModel)
+                        .toList());
+        TokenTimeSnapshot rebuilt = TokenTimeSnapshot.of(storedProfiles, createRootTokenTimeProfile());
+        snapshot = rebuilt;
+        return rebuilt;
     }
 
     @Override
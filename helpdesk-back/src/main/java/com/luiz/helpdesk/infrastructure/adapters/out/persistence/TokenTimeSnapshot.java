@@ -0,0 +1,55 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.domain.enums.Profile;
+import com.luiz.helpdesk.domain.model.TokenTimeProfile;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+final class TokenTimeSnapshot {
+
+    private static final BigDecimal MILLIS_PER_MINUTE = BigDecimal.valueOf(60000);
+
+    private final Map<Profile, Entry> entries;
+    private final List<TokenTimeProfile> storedProfiles;
+
+    private TokenTimeSnapshot(Map<Profile, Entry> entries, List<TokenTimeProfile> storedProfiles) {
+        this.entries = entries;
+        this.storedProfiles = storedProfiles;
+    }
+
+    static TokenTimeSnapshot of(List<TokenTimeProfile> storedProfiles, TokenTimeProfile rootProfile) {
+        Map<Profile, Entry> entries = new EnumMap<>(Profile.class);
+        storedProfiles.forEach(profile -> entries.put(profile.getProfile(), Entry.of(profile)));
+        entries.put(Profile.ROOT, Entry.of(rootProfile));
+        return new TokenTimeSnapshot(entries, List.copyOf(storedProfiles));
+    }
+
+    Optional<TokenTimeProfile> find(Profile profile) {
+        Entry entry = entries.get(profile);
+        return entry != null ? Optional.of(entry.profile()) : Optional.empty();
+    }
+
+    Optional<TokenTimeProfile> findStored(Profile profile) {
+        return profile == Profile.ROOT ? Optional.empty() : find(profile);
+    }
+
+    long tokenExpirationTimeInMillis(Profile profile) {
+        Entry entry = entries.get(profile);
+        return entry != null ? entry.tokenExpirationTimeMillis() : 0L;
+    }
+
+    List<TokenTimeProfile> storedProfiles() {
+        return storedProfiles;
+    }
+
+    private record Entry(TokenTimeProfile profile, long tokenExpirationTimeMillis) {
+
+        private static Entry of(TokenTimeProfile profile) {
+            return new Entry(profile, profile.getTokenExpirationTimeMinutes().multiply(MILLIS_PER_MINUTE).longValue());
+        }
+    }
+}
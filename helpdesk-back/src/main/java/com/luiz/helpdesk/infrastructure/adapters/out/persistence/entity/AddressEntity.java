@@ -8,7 +8,7 @@ import jakarta.persistence.*;
 public class AddressEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "person_id")
     private Integer id;
 
     @Column(nullable = false)
@@ -31,7 +31,8 @@ public class AddressEntity {
     @Column(nullable = false)
     private String number;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "person_id")
     private PersonEntity person;
 
@@ -39,7 +40,6 @@ public class AddressEntity {
     }
 
     public void updateFromDomainModel(Address address) {
-        this.id = address.getId();
         this.street = address.getStreet();
         this.complement = address.getComplement();
         this.neighborhood = address.getNeighborhood();
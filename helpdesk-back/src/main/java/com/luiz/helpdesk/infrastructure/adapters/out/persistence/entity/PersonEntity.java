@@ -1,22 +1,36 @@
 package com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity;
 
+import com.luiz.helpdesk.domain.model.Address;
 import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.PersonTrigramIndexListener;
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.RecursionControlWrapperUtil;
 import jakarta.persistence.*;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.Set;
 
 @Entity
-@Table(name = "persons")
+@Table(name = "persons", indexes = {
+        @Index(name = "idx_persons_creation_date_id", columnList = "creation_date, id"),
+        @Index(name = "idx_persons_profile_id", columnList = "profile, id"),
+        @Index(name = "idx_persons_theme_id", columnList = "theme, id"),
+        @Index(name = "idx_persons_name_id", columnList = "name, id"),
+        @Index(name = "idx_persons_profile_creation_date_id", columnList = "profile, creation_date, id"),
+        @Index(name = "uk_persons_cpf_key", columnList = "cpf_key", unique = true),
+        @Index(name = "uk_persons_email_key", columnList = "email_key", unique = true)
+})
+@DynamicUpdate
+@EntityListeners(PersonTrigramIndexListener.class)
+@NamedEntityGraph(name = PersonEntity.WITH_ADDRESS_GRAPH, attributeNodes = @NamedAttributeNode("address"))
 public class PersonEntity {
 
+    public static final String WITH_ADDRESS_GRAPH = "PersonEntity.withAddress";
+
     private static final ThreadLocal<Integer> recursionDepth = new ThreadLocal<>();
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_id_generator")
+    @SequenceGenerator(name = "person_id_generator", sequenceName = "persons_seq", allocationSize = 50)
     private Integer id;
 
     @Column(nullable = false)
@@ -28,49 +42,40 @@ public class PersonEntity {
     @Column(nullable = false, unique = true)
     private String email;
 
+    @Column(name = "cpf_key")
+    private String cpfKey;
+
+    @Column(name = "email_key")
+    private String emailKey;
+
     @Column(nullable = false)
     private String password;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "person_profiles", joinColumns = @JoinColumn(name = "person_id"))
     @Column(name = "profile")
-    private Set<Integer> profiles = new HashSet<>();
+    private Integer profile;
 
     @Column(nullable = false)
     private LocalDate creationDate;
 
-    @OneToOne(mappedBy = "person", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @OneToOne(mappedBy = "person", cascade = CascadeType.ALL, fetch = FetchType.LAZY, optional = false, orphanRemoval = true)
     private AddressEntity address;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "person_themes", joinColumns = @JoinColumn(name = "person_id"))
     @Column(name = "theme")
-    private Set<Integer> themes = new HashSet<>();
+    private Integer theme;
 
     public PersonEntity() {
     }
 
-    @PrePersist
-    @PreUpdate
-    private void encodePassword() {
-        if (this.password != null && !this.password.startsWith("$2a$")) {
-            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-            this.password = encoder.encode(this.password);
-        }
-    }
-
     public void updateFromDomainModel(Person person) {
         RecursionControlWrapperUtil.executeWithRecursionControl(() -> {
             this.id = person.getId();
             this.name = person.getName();
-            this.cpf = person.getCpf();
-            this.email = person.getEmail();
+            setCpf(person.getCpf());
+            setEmail(person.getEmail());
             this.password = person.getPassword();
-            this.profiles.clear();
-            this.profiles.add(person.getProfile());
+            this.profile = person.getProfile();
             this.creationDate = person.getCreationDate();
-            this.themes.clear();
-            this.themes.add(person.getTheme());
+            this.theme = person.getTheme();
             updateAddress(person);
             return null;
         });
@@ -94,20 +99,28 @@ public class PersonEntity {
 
     public Person toDomainModel() {
         return RecursionControlWrapperUtil.executeWithRecursionControl(() ->
-                Person.builder()
-                        .withId(this.id)
-                        .withName(this.name)
-                        .withCpf(this.cpf)
-                        .withEmail(this.email)
-                        .withPassword(this.password)
-                        .withProfile(this.profiles.isEmpty() ? null : this.profiles.iterator().next())
-                        .withCreationDate(this.creationDate)
-                        .withAddress(this.address != null ? this.address.toDomainModel() : null)
-                        .withTheme(this.themes.isEmpty() ? null : this.themes.iterator().next())
-                        .build()
+                toDomainModel(this.address != null ? this.address.toDomainModel() : null)
         );
     }
 
+    public Person toDomainModelWithoutAddress() {
+        return toDomainModel(null);
+    }
+
+    private Person toDomainModel(Address address) {
+        return Person.builder()
+                .withId(this.id)
+                .withName(this.name)
+                .withCpf(this.cpf)
+                .withEmail(this.email)
+                .withPassword(this.password)
+                .withProfile(this.profile)
+                .withCreationDate(this.creationDate)
+                .withAddress(address)
+                .withTheme(this.theme)
+                .build();
+    }
+
     public static PersonEntity fromDomainModel(Person person) {
         return RecursionControlWrapperUtil.executeWithRecursionControl(() -> {
             PersonEntity entity = new PersonEntity();
@@ -119,8 +132,7 @@ public class PersonEntity {
 
     public void updateCurrentUser(Integer newTheme, String newPassword) {
         if (newTheme != null) {
-            this.themes.clear();
-            this.themes.add(newTheme);
+            this.theme = newTheme;
         }
         if (newPassword != null && !newPassword.isEmpty()) {
             this.password = newPassword;
@@ -161,6 +173,11 @@ public class PersonEntity {
 
     public void setCpf(String cpf) {
         this.cpf = cpf;
+        this.cpfKey = Person.cpfKeyOf(cpf);
+    }
+
+    public String getCpfKey() {
+        return cpfKey;
     }
 
     public String getEmail() {
@@ -169,6 +186,11 @@ public class PersonEntity {
 
     public void setEmail(String email) {
         this.email = email;
+        this.emailKey = Person.emailKeyOf(email);
+    }
+
+    public String getEmailKey() {
+        return emailKey;
     }
 
     public String getPassword() {
@@ -180,14 +202,11 @@ public class PersonEntity {
     }
 
     public Integer getProfile() {
-        return profiles.isEmpty() ? null : profiles.iterator().next();
+        return profile;
     }
 
     public void setProfile(Integer profile) {
-        this.profiles.clear();
-        if (profile != null) {
-            this.profiles.add(profile);
-        }
+        this.profile = profile;
     }
 
     public LocalDate getCreationDate() {
@@ -210,13 +229,10 @@ public class PersonEntity {
     }
 
     public Integer getTheme() {
-        return themes.isEmpty() ? null : themes.iterator().next();
+        return theme;
     }
 
     public void setTheme(Integer theme) {
-        this.themes.clear();
-        if (theme != null) {
-            this.themes.add(theme);
-        }
+        this.theme = theme;
     }
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+@Component
+public class SchemaMigrator implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaMigrator.class);
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final String VENDOR_PLACEHOLDER = "{vendor}";
+    private static final Map<String, String> VENDORS = Map.of(
+            "H2", "h2",
+            "PostgreSQL", "postgresql",
+            "MySQL", "mysql"
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String locations;
+    private final boolean enabled;
+
+    public SchemaMigrator(DataSource dataSource,
+                          @Value("${persistence.migrations.locations:classpath*:db/migration/common/V*__*.sql,classpath*:db/migration/{vendor}/V*__*.sql}") String locations,
+                          @Value("${persistence.migrations.enabled:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.locations = locations;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    public void migrate() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_history ("
+                + "version integer NOT NULL PRIMARY KEY, "
+                + "description varchar(200) NOT NULL, "
+                + "checksum bigint NOT NULL, "
+                + "installed_on timestamp NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_history_lock (id integer NOT NULL PRIMARY KEY)");
+        try {
+            jdbcTemplate.update("INSERT INTO schema_history_lock (id) VALUES (1)");
+        } catch (DuplicateKeyException e) {
+            LOGGER.debug("Schema history lock row already present");
+        }
+        List<Migration> migrations = scripts();
+        try (Connection lockConnection = dataSource.getConnection()) {
+            boolean autoCommit = lockConnection.getAutoCommit();
+            lockConnection.setAutoCommit(false);
+            try {
+                try (var statement = lockConnection.prepareStatement("SELECT id FROM schema_history_lock WHERE id = 1 FOR UPDATE")) {
+                    statement.executeQuery().close();
+                }
+                applyPending(migrations);
+            } finally {
+                lockConnection.rollback();
+                lockConnection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao obter o bloqueio das migrações", e);
+        }
+    }
+
+    private void applyPending(List<Migration> migrations) {
+        Map<Integer, Long> applied = new HashMap<>();
+        jdbcTemplate.query("SELECT version, checksum FROM schema_history",
+                resultSet -> {
+                    applied.put(resultSet.getInt("version"), resultSet.getLong("checksum"));
+                });
+        for (Migration migration : migrations) {
+            Long checksum = applied.get(migration.version());
+            if (checksum == null) {
+                apply(migration);
+            } else if (checksum != migration.checksum()) {
+                throw new IllegalStateException("A migração V" + migration.version()
+                        + " foi alterada depois de aplicada: " + migration.resource().getFilename());
+            }
+        }
+    }
+
+    private void apply(Migration migration) {
+        long startedAt = System.currentTimeMillis();
+        boolean transactionalDdl = true;
+        try (Connection connection = dataSource.getConnection()) {
+            transactionalDdl = connection.getMetaData().supportsDataDefinitionAndDataManipulationTransactions();
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.resource(), StandardCharsets.UTF_8));
+                try (var statement = connection.prepareStatement(
+                        "INSERT INTO schema_history (version, description, checksum, installed_on) VALUES (?, ?, ?, ?)")) {
+                    statement.setInt(1, migration.version());
+                    statement.setString(2, migration.description());
+                    statement.setLong(3, migration.checksum());
+                    statement.setTimestamp(4, Timestamp.from(Instant.now()));
+                    statement.executeUpdate();
+                }
+                connection.commit();
+            } catch (RuntimeException | SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (RuntimeException | SQLException e) {
+            if (!transactionalDdl) {
+                LOGGER.error("Schema migration V{} ({}) failed on a database that commits DDL implicitly, "
+                        + "statements run before the failure were kept and must be reverted by hand", migration.version(), migration.description());
+            }
+            throw new IllegalStateException("Falha ao aplicar a migração V" + migration.version(), e);
+        }
+        LOGGER.info("Schema migration V{} ({}) applied in {} ms",
+                migration.version(), migration.description(), System.currentTimeMillis() - startedAt);
+    }
+
+    private List<Migration> scripts() {
+        try {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            List<Resource> resources = new ArrayList<>();
+            for (String location : StringUtils.commaDelimitedListToStringArray(resolveVendor(locations))) {
+                resources.addAll(Arrays.asList(resolver.getResources(location.trim())));
+            }
+            List<Migration> migrations = resources.stream()
+                    .map(this::toMigration)
+                    .sorted(Comparator.comparingInt(Migration::version))
+                    .toList();
+            for (int i = 1; i < migrations.size(); i++) {
+                if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                    throw new IllegalStateException("Versão de migração duplicada: V" + migrations.get(i).version());
+                }
+            }
+            return migrations;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String resolveVendor(String locations) {
+        if (!locations.contains(VENDOR_PLACEHOLDER)) {
+            return locations;
+        }
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        String vendor = VENDORS.get(product);
+        if (vendor == null) {
+            throw new IllegalStateException("Banco de dados sem migrações disponíveis: " + product);
+        }
+        return locations.replace(VENDOR_PLACEHOLDER, vendor);
+    }
+
+    private Migration toMigration(Resource resource) {
+        Matcher matcher = SCRIPT_NAME.matcher(String.valueOf(resource.getFilename()));
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Nome de migração inválido: " + resource.getFilename());
+        }
+        try {
+            CRC32 crc = new CRC32();
+            crc.update(resource.getContentAsByteArray());
+            return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '), crc.getValue(), resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Migration(int version, String description, long checksum, Resource resource) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.migration;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SchemaMigratorEntityManagerFactoryDependsOnPostProcessor extends EntityManagerFactoryDependsOnPostProcessor {
+
+    public SchemaMigratorEntityManagerFactoryDependsOnPostProcessor() {
+        super(SchemaMigrator.class);
+    }
+}
@@ -5,61 +5,95 @@ import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonFil
 import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.SpecificationUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 @Repository
-public interface JpaPersonRepository extends JpaRepository<PersonEntity, Integer>, JpaSpecificationExecutor<PersonEntity> {
+public interface JpaPersonRepository extends JpaRepository<PersonEntity, Integer>, JpaSpecificationExecutor<PersonEntity>, PersonSliceRepository {
 
-    Optional<PersonEntity> findByCpf(String cpf);
+    Optional<PersonEntity> findByCpfKey(String cpfKey);
 
-    Optional<PersonEntity> findByEmail(String email);
+    Optional<PersonEntity> findByEmailKey(String emailKey);
 
-    boolean existsByCpf(String cpf);
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Optional<PersonEntity> findWithAddressByCpfKey(String cpfKey);
 
-    boolean existsByEmail(String email);
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Optional<PersonEntity> findWithAddressByEmailKey(String emailKey);
 
-    boolean existsByCpfAndIdNot(String cpf, Integer id);
+    boolean existsByCpfKey(String cpfKey);
 
-    boolean existsByEmailAndIdNot(String email, Integer id);
+    boolean existsByEmailKey(String emailKey);
 
+    boolean existsByCpfKeyAndIdNot(String cpfKey, Integer id);
+
+    boolean existsByEmailKeyAndIdNot(String emailKey, Integer id);
+
+    @Override
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<PersonEntity> findAll(Pageable pageable);
 
-    Optional<PersonEntity> findByEmailAndIdNot(String email, Integer id);
+    @Override
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Page<PersonEntity> findAll(Specification<PersonEntity> spec, Pageable pageable);
 
-    @Query("SELECT p FROM PersonEntity p LEFT JOIN FETCH p.profiles LEFT JOIN FETCH p.themes LEFT JOIN FETCH p.address WHERE p.id = :id")
+    Optional<PersonEntity> findByEmailKeyAndIdNot(String emailKey, Integer id);
+
+    @Query("SELECT p FROM PersonEntity p LEFT JOIN FETCH p.address WHERE p.id = :id")
     Optional<PersonEntity> findByIdWithAssociations(Integer id);
 
     long count();
 
+    @Query("SELECT p.emailKey FROM PersonEntity p")
+    Stream<String> streamAllEmailKeys();
+
+    @Query("SELECT p.id, p.name, p.emailKey FROM PersonEntity p")
+    Stream<Object[]> streamSearchableFields();
+
+    @Query("SELECT max(p.id) FROM PersonEntity p")
+    Integer findMaxId();
+
+    @Query("SELECT p.cpfKey, p.emailKey FROM PersonEntity p WHERE p.cpfKey IN :cpfKeys OR p.emailKey IN :emailKeys")
+    List<Object[]> findKeysByCpfKeyInOrEmailKeyIn(Collection<String> cpfKeys, Collection<String> emailKeys);
+
     default Map<String, BiFunction<String, Object, SpecificationUtil.FilterOperation>> getPersonFilterOperations() {
         return PersonFilterOperationsUtil.getFilterOperations();
     }
 
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<PersonEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<PersonEntity> findByCpfContaining(String cpf, Pageable pageable);
 
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<PersonEntity> findByEmailContainingIgnoreCase(String email, Pageable pageable);
 
-    @Query("SELECT p FROM PersonEntity p JOIN p.profiles pr WHERE pr IN :profiles")
-    Page<PersonEntity> findByProfilesIn(List<String> profiles, Pageable pageable);
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Page<PersonEntity> findByProfileIn(Collection<Integer> profiles, Pageable pageable);
 
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<PersonEntity> findByCreationDate(LocalDate creationDate, Pageable pageable);
 
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<PersonEntity> findByCreationDateGreaterThanEqual(LocalDate creationDateFrom, Pageable pageable);
 
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<PersonEntity> findByCreationDateLessThanEqual(LocalDate creationDateTo, Pageable pageable);
 
-    @Query("SELECT p FROM PersonEntity p JOIN p.themes t WHERE t IN :themes")
-    Page<PersonEntity> findByThemesIn(List<String> themes, Pageable pageable);
+    @EntityGraph(value = PersonEntity.WITH_ADDRESS_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Page<PersonEntity> findByThemeIn(Collection<Integer> themes, Pageable pageable);
 
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.springdata;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.PersonEntity;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonQueryPlan;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface PersonSliceRepository {
+
+    String ADDRESS_ALIAS_PREFIX = "address_";
+
+    Slice<PersonEntity> findSlice(PersonQueryPlan plan, Map<String, Object> parameters, Pageable pageable);
+
+    long count(PersonQueryPlan plan, Map<String, Object> parameters);
+
+    Slice<Tuple> findProjectedSlice(Specification<PersonEntity> spec, List<String> personFields, List<String> addressFields, Pageable pageable);
+
+    long streamEach(Specification<PersonEntity> spec, Sort sort, Consumer<PersonEntity> action);
+}
@@ -0,0 +1,126 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.springdata;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.AddressEntity;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.PersonEntity;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonQueryPlan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+class PersonSliceRepositoryImpl implements PersonSliceRepository {
+
+    private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int streamFetchSize;
+    private final int streamClearInterval;
+
+    PersonSliceRepositoryImpl(@Value("${persistence.stream.fetch-size:500}") int streamFetchSize,
+                              @Value("${persistence.stream.clear-interval:1000}") int streamClearInterval) {
+        this.streamFetchSize = streamFetchSize;
+        this.streamClearInterval = streamClearInterval;
+    }
+
+    @Override
+    public Slice<PersonEntity> findSlice(PersonQueryPlan plan, Map<String, Object> parameters, Pageable pageable) {
+        TypedQuery<PersonEntity> query = entityManager.createQuery(plan.selectQuery(), PersonEntity.class);
+        parameters.forEach(query::setParameter);
+        return toSlice(query, pageable);
+    }
+
+    @Override
+    public long count(PersonQueryPlan plan, Map<String, Object> parameters) {
+        TypedQuery<Long> query = entityManager.createQuery(plan.countQuery(), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public Slice<Tuple> findProjectedSlice(Specification<PersonEntity> spec, List<String> personFields, List<String> addressFields, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<PersonEntity> root = query.from(PersonEntity.class);
+        applySpecification(spec, root, query, criteriaBuilder);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        personFields.forEach(field -> selections.add(root.get(field).alias(field)));
+        if (!addressFields.isEmpty()) {
+            Join<PersonEntity, AddressEntity> address = root.join("address", JoinType.LEFT);
+            addressFields.forEach(field -> selections.add(address.get(field).alias(ADDRESS_ALIAS_PREFIX + field)));
+        }
+        query.multiselect(selections).orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        return toSlice(entityManager.createQuery(query), pageable);
+    }
+
+    @Override
+    public long streamEach(Specification<PersonEntity> spec, Sort sort, Consumer<PersonEntity> action) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PersonEntity> query = criteriaBuilder.createQuery(PersonEntity.class);
+        Root<PersonEntity> root = query.from(PersonEntity.class);
+        root.fetch("address", JoinType.LEFT);
+        applySpecification(spec, root, query, criteriaBuilder);
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        TypedQuery<PersonEntity> typedQuery = entityManager.createQuery(query)
+                .setHint(FETCH_SIZE_HINT, streamFetchSize)
+                .setHint(READ_ONLY_HINT, true);
+        long processed = 0;
+        try (Stream<PersonEntity> rows = typedQuery.getResultStream()) {
+            Iterator<PersonEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                if (++processed % streamClearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return processed;
+    }
+
+    private void applySpecification(Specification<PersonEntity> spec, Root<PersonEntity> root, CriteriaQuery<?> query,
+                                    CriteriaBuilder criteriaBuilder) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    private <T> Slice<T> toSlice(TypedQuery<T> typedQuery, Pageable pageable) {
+        List<T> rows = typedQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
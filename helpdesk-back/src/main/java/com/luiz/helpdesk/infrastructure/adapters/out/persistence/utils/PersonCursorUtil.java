@@ -0,0 +1,122 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.PersonEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class PersonCursorUtil {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = ":";
+
+    private static final Map<String, SortKey<?>> SORT_KEYS = Map.of(
+            ID, new SortKey<>(Integer::valueOf, PersonEntity::getId),
+            "name", new SortKey<>(Function.identity(), PersonEntity::getName),
+            "cpf", new SortKey<>(Function.identity(), PersonEntity::getCpf),
+            "email", new SortKey<>(Function.identity(), PersonEntity::getEmail),
+            "creationDate", new SortKey<>(LocalDate::parse, PersonEntity::getCreationDate)
+    );
+
+    private PersonCursorUtil() {
+        throw new AssertionError("A classe utilitária não deve ser instanciada");
+    }
+
+    public static Sort sort(String sortBy, Sort.Direction direction) {
+        sortKey(sortBy);
+        return ID.equals(sortBy)
+                ? Sort.by(direction, ID)
+                : Sort.by(direction, sortBy).and(Sort.by(direction, ID));
+    }
+
+    public static String encode(String sortBy, Sort.Direction direction, PersonEntity last) {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + last.getId() + SEPARATOR
+                + sortKey(sortBy).extractor().apply(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Specification<PersonEntity> after(String cursor, String sortBy, Sort.Direction direction) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = decode(cursor);
+        if (!parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Cursor não corresponde à ordenação solicitada");
+        }
+        try {
+            Integer lastId = Integer.valueOf(parts[2]);
+            return afterKey(sortKey(sortBy), sortBy, parts[3], lastId, direction);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    public static Specification<PersonEntity> fetchAddress() {
+        return (root, query, criteriaBuilder) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("address", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Specification<PersonEntity> afterKey(SortKey<Y> sortKey, String sortBy,
+                                                                                         String rawValue, Integer lastId,
+                                                                                         Sort.Direction direction) {
+        Y lastValue = sortKey.parser().apply(rawValue);
+        return (root, query, criteriaBuilder) -> {
+            Path<Y> path = root.get(sortBy);
+            Predicate beyond = beyond(criteriaBuilder, path, lastValue, direction);
+            if (ID.equals(sortBy)) {
+                return beyond;
+            }
+            Predicate tie = criteriaBuilder.and(
+                    criteriaBuilder.equal(path, lastValue),
+                    beyond(criteriaBuilder, root.get(ID), lastId, direction)
+            );
+            return criteriaBuilder.or(beyond, tie);
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder criteriaBuilder, Path<Y> path,
+                                                                      Y value, Sort.Direction direction) {
+        return direction.isAscending()
+                ? criteriaBuilder.greaterThan(path, value)
+                : criteriaBuilder.lessThan(path, value);
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    private static SortKey<?> sortKey(String sortBy) {
+        SortKey<?> sortKey = SORT_KEYS.get(sortBy);
+        if (sortKey == null) {
+            throw new IllegalArgumentException("Campo de ordenação não suportado para paginação por cursor: " + sortBy);
+        }
+        return sortKey;
+    }
+
+    private record SortKey<Y extends Comparable<? super Y>>(Function<String, Y> parser,
+                                                            Function<PersonEntity, Y> extractor) {
+    }
+}
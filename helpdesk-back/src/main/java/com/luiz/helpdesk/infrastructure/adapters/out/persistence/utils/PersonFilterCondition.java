@@ -0,0 +1,47 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+public record PersonFilterCondition(String attribute, Operator operator, Function<String, Object> binder) {
+
+    public enum Operator {
+        LIKE("%s like :%s"),
+        LIKE_IGNORE_CASE("lower(%s) like :%s"),
+        EQUAL("%s = :%s"),
+        IN("%s in :%s"),
+        GREATER_THAN_OR_EQUAL("%s >= :%s"),
+        LESS_THAN_OR_EQUAL("%s <= :%s");
+
+        private final String jpqlTemplate;
+
+        Operator(String jpqlTemplate) {
+            this.jpqlTemplate = jpqlTemplate;
+        }
+    }
+
+    public String jpql(String alias, String parameter) {
+        return operator.jpqlTemplate.formatted(alias + "." + attribute, parameter);
+    }
+
+    public Object bind(String value) {
+        return binder.apply(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Predicate predicate(Root<?> root, CriteriaBuilder criteriaBuilder, String value) {
+        Object bound = bind(value);
+        return switch (operator) {
+            case LIKE -> criteriaBuilder.like(root.get(attribute), (String) bound);
+            case LIKE_IGNORE_CASE -> criteriaBuilder.like(criteriaBuilder.lower(root.get(attribute)), (String) bound);
+            case EQUAL -> criteriaBuilder.equal(root.get(attribute), bound);
+            case IN -> root.get(attribute).in((Collection<?>) bound);
+            case GREATER_THAN_OR_EQUAL -> criteriaBuilder.greaterThanOrEqualTo(root.<Comparable>get(attribute), (Comparable) bound);
+            case LESS_THAN_OR_EQUAL -> criteriaBuilder.lessThanOrEqualTo(root.<Comparable>get(attribute), (Comparable) bound);
+        };
+    }
+}
@@ -1,59 +1,102 @@
 package com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils;
 
+import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonFilterCondition.Operator;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 
 public class PersonFilterOperationsUtil {
 
-    private static final Map<String, BiFunction<String, Object, SpecificationUtil.FilterOperation>> FILTER_OPERATIONS = new HashMap<>();
+    public static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "cpf", "cpf",
+            "email", "email",
+            "creationDate", "creation_date"
+    );
 
-    static {
-        FILTER_OPERATIONS.put("name", (field, value) -> SpecificationUtil.FilterOperations.likeIgnoreCase(field));
-        FILTER_OPERATIONS.put("cpf", (field, value) -> SpecificationUtil.FilterOperations.like(field));
-        FILTER_OPERATIONS.put("email", (field, value) -> SpecificationUtil.FilterOperations.likeIgnoreCase(field));
-        FILTER_OPERATIONS.put("profile", (field, value) -> criarFiltroDePerfilProfissional());
-        FILTER_OPERATIONS.put("creationDate", (field, value) -> SpecificationUtil.FilterOperations.dateEqual(field));
-        FILTER_OPERATIONS.put("creationDateFrom", (field, value) -> SpecificationUtil.FilterOperations.dateGreaterThanOrEqualTo("creationDate"));
-        FILTER_OPERATIONS.put("creationDateTo", (field, value) -> SpecificationUtil.FilterOperations.dateLessThanOrEqualTo("creationDate"));
-        FILTER_OPERATIONS.put("theme", (field, value) -> criarFiltroDeTema());
-        FILTER_OPERATIONS.put("id", (field, value) -> criarFiltroNumerico());
-    }
+    public static final Map<String, String> FILTER_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "cpf", "cpf_key",
+            "email", "email_key",
+            "profile", "profile",
+            "theme", "theme",
+            "creationDate", "creation_date",
+            "creationDateFrom", "creation_date",
+            "creationDateTo", "creation_date"
+    );
+
+    private static final Map<String, PersonFilterCondition> CONDITIONS = Map.of(
+            "name", new PersonFilterCondition("name", Operator.LIKE_IGNORE_CASE, value -> "%" + value.toLowerCase() + "%"),
+            "cpf", new PersonFilterCondition("cpfKey", Operator.LIKE, PersonFilterOperationsUtil::cpfKeyPrefix),
+            "email", new PersonFilterCondition("emailKey", Operator.LIKE, value -> "%" + Person.emailKeyOf(value) + "%"),
+            "profile", new PersonFilterCondition("profile", Operator.IN, value -> parseCodes(value, "perfil profissional")),
+            "theme", new PersonFilterCondition("theme", Operator.IN, value -> parseCodes(value, "tema")),
+            "creationDate", new PersonFilterCondition("creationDate", Operator.EQUAL, PersonFilterOperationsUtil::parseCreationDate),
+            "creationDateFrom", new PersonFilterCondition("creationDate", Operator.GREATER_THAN_OR_EQUAL, PersonFilterOperationsUtil::parseCreationDate),
+            "creationDateTo", new PersonFilterCondition("creationDate", Operator.LESS_THAN_OR_EQUAL, PersonFilterOperationsUtil::parseCreationDate),
+            "id", new PersonFilterCondition("id", Operator.EQUAL, PersonFilterOperationsUtil::parseId)
+    );
 
     public static Map<String, BiFunction<String, Object, SpecificationUtil.FilterOperation>> getFilterOperations() {
-        return new HashMap<>(FILTER_OPERATIONS);
-    }
-
-    private static SpecificationUtil.FilterOperation criarFiltroDePerfilProfissional() {
-        return (root, criteriaBuilder, value) -> {
-            try {
-                String[] profiles = value.split(",");
-                return root.join("profiles").in((Object[]) profiles);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Valor inválido para perfil profissional: " + value, e);
-            }
-        };
-    }
-
-    private static SpecificationUtil.FilterOperation criarFiltroDeTema() {
-        return (root, criteriaBuilder, value) -> {
-            try {
-                String[] themes = value.split(",");
-                return root.join("themes").in((Object[]) themes);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Valor inválido para tema: " + value, e);
-            }
-        };
-    }
-
-    private static SpecificationUtil.FilterOperation criarFiltroNumerico() {
-        return (root, criteriaBuilder, value) -> {
-            try {
-                Long numericValue = Long.parseLong(value);
-                return criteriaBuilder.equal(root.get("id"), numericValue);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("Valor numérico inválido para id: " + value, e);
-            }
-        };
-    }
-}
\ No newline at end of file
+        Map<String, BiFunction<String, Object, SpecificationUtil.FilterOperation>> operations = new HashMap<>();
+        CONDITIONS.forEach((key, condition) -> operations.put(key, (field, value) -> condition::predicate));
+        return operations;
+    }
+
+    public static Optional<PersonFilterCondition> condition(String key) {
+        return Optional.ofNullable(CONDITIONS.get(key));
+    }
+
+    public static <T> Specification<T> idIn(Collection<Integer> ids) {
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get("id").in(ids);
+    }
+
+    private static String cpfKeyPrefix(String value) {
+        String cpfKey = Person.cpfKeyOf(value);
+        return cpfKey.isEmpty() ? "" : cpfKey + "%";
+    }
+
+    private static LocalDate parseCreationDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Formato de data inválido para creationDate: " + value, e);
+        }
+    }
+
+    private static Integer parseId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor numérico inválido para id: " + value, e);
+        }
+    }
+
+    private static List<Integer> parseCodes(String value, String description) {
+        try {
+            return parseCodes(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + description + ": " + value, e);
+        }
+    }
+
+    private static List<Integer> parseCodes(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,71 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+public record PersonQueryPlan(String signature, String selectQuery, String countQuery, List<String> filterKeys,
+                              boolean candidateIds) {
+
+    public static final String CANDIDATE_IDS = "candidateIds";
+
+    private static final String FROM = " from PersonEntity p";
+
+    public static Set<String> activeFilterKeys(Map<String, String> filters) {
+        Set<String> keys = new TreeSet<>();
+        filters.forEach((key, value) -> {
+            if (value != null && !value.isEmpty() && PersonFilterOperationsUtil.condition(key).isPresent()) {
+                keys.add(key);
+            }
+        });
+        return keys;
+    }
+
+    public static Map<String, Object> bindFilters(Map<String, String> filters) {
+        Map<String, Object> parameters = new TreeMap<>();
+        for (String key : activeFilterKeys(filters)) {
+            parameters.put(key, PersonFilterOperationsUtil.condition(key).orElseThrow().bind(filters.get(key)));
+        }
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    public static String signature(Set<String> filterKeys, boolean candidateIds, Sort sort) {
+        return filterKeys + (candidateIds ? "+" + CANDIDATE_IDS : "") + " order by " + sort;
+    }
+
+    public static PersonQueryPlan compile(Set<String> filterKeys, boolean candidateIds, Sort sort) {
+        StringJoiner where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        filterKeys.forEach(key -> where.add(PersonFilterOperationsUtil.condition(key).orElseThrow().jpql("p", key)));
+        if (candidateIds) {
+            where.add("p.id in :" + CANDIDATE_IDS);
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " order by ", "").setEmptyValue("");
+        sort.forEach(order -> orderBy.add("p." + order.getProperty() + (order.isAscending() ? " asc" : " desc")));
+        return new PersonQueryPlan(
+                signature(filterKeys, candidateIds, sort),
+                "select p" + FROM + " left join fetch p.address" + where + orderBy,
+                "select count(p)" + FROM + where,
+                List.copyOf(filterKeys),
+                candidateIds
+        );
+    }
+
+    public Map<String, Object> bind(Map<String, String> filters, Collection<Integer> ids) {
+        Map<String, Object> parameters = new HashMap<>();
+        for (String key : filterKeys) {
+            parameters.put(key, PersonFilterOperationsUtil.condition(key).orElseThrow().bind(filters.get(key)));
+        }
+        if (candidateIds) {
+            parameters.put(CANDIDATE_IDS, ids);
+        }
+        return parameters;
+    }
+}
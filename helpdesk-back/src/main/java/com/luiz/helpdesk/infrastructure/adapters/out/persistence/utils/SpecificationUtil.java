@@ -8,7 +8,10 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 public class SpecificationUtil {
@@ -87,8 +90,22 @@ public class SpecificationUtil {
         return spec;
     }
 
-    public static Sort createSort(String sortBy, String sortDirection) {
+    public static Sort createSort(String sortBy, String sortDirection, Set<String> sortableFields) {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
-        return Sort.by(direction, sortBy.split(","));
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String token : sortBy.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty() || Sort.Direction.fromOptionalString(field).isPresent()) {
+                continue;
+            }
+            if (!sortableFields.contains(field)) {
+                throw new IllegalArgumentException("Campo de ordenação não suportado: " + field);
+            }
+            orders.add(new Sort.Order(direction, field));
+        }
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("Campo de ordenação não informado");
+        }
+        return Sort.by(orders);
     }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+CREATE INDEX idx_persons_creation_date_id ON persons (creation_date, id);
+CREATE INDEX idx_persons_profile_id ON persons (profile, id);
+CREATE INDEX idx_persons_theme_id ON persons (theme, id);
+CREATE INDEX idx_persons_name_id ON persons (name, id);
+CREATE INDEX idx_persons_profile_creation_date_id ON persons (profile, creation_date, id);
@@ -0,0 +1,4 @@
+UPDATE persons
+SET cpf_key = REGEXP_REPLACE(cpf, '[^0-9]', ''),
+    email_key = LOWER(TRIM(email))
+WHERE cpf_key IS NULL OR email_key IS NULL;
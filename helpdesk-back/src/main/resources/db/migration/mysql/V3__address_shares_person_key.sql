@@ -0,0 +1,12 @@
+DELETE FROM addresses WHERE person_id IS NULL;
+
+ALTER TABLE addresses DROP FOREIGN KEY fk_addresses_person;
+ALTER TABLE addresses DROP INDEX uk_addresses_person_id;
+ALTER TABLE addresses
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    MODIFY person_id integer NOT NULL,
+    ADD CONSTRAINT pk_addresses PRIMARY KEY (person_id);
+ALTER TABLE addresses ADD CONSTRAINT fk_addresses_person FOREIGN KEY (person_id) REFERENCES persons (id);
+
+DROP TABLE addresses_seq;
@@ -0,0 +1,46 @@
+CREATE SEQUENCE persons_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE addresses_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE persons (
+    id integer NOT NULL,
+    name varchar(255) NOT NULL,
+    cpf varchar(255) NOT NULL,
+    email varchar(255) NOT NULL,
+    cpf_key varchar(255),
+    email_key varchar(255),
+    password varchar(255) NOT NULL,
+    profile integer,
+    theme integer,
+    creation_date date NOT NULL,
+    CONSTRAINT pk_persons PRIMARY KEY (id),
+    CONSTRAINT uk_persons_cpf UNIQUE (cpf),
+    CONSTRAINT uk_persons_email UNIQUE (email),
+    CONSTRAINT uk_persons_cpf_key UNIQUE (cpf_key),
+    CONSTRAINT uk_persons_email_key UNIQUE (email_key)
+);
+
+CREATE TABLE addresses (
+    id integer NOT NULL,
+    person_id integer,
+    street varchar(255) NOT NULL,
+    complement varchar(255),
+    neighborhood varchar(255) NOT NULL,
+    city varchar(255) NOT NULL,
+    state varchar(255) NOT NULL,
+    zip_code varchar(255) NOT NULL,
+    number varchar(255) NOT NULL,
+    CONSTRAINT pk_addresses PRIMARY KEY (id),
+    CONSTRAINT uk_addresses_person_id UNIQUE (person_id),
+    CONSTRAINT fk_addresses_person FOREIGN KEY (person_id) REFERENCES persons (id)
+);
+
+CREATE TABLE token_time_profiles (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    profile integer NOT NULL,
+    token_expiration_time_minutes numeric(38, 2) NOT NULL,
+    time_to_show_dialog_minutes numeric(38, 2) NOT NULL,
+    dialog_display_time_for_token_update_minutes numeric(38, 2) NOT NULL,
+    token_update_interval_minutes numeric(38, 2) NOT NULL,
+    CONSTRAINT pk_token_time_profiles PRIMARY KEY (id),
+    CONSTRAINT uk_token_time_profile UNIQUE (profile)
+);
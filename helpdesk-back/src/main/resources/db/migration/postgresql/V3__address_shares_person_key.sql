@@ -0,0 +1,11 @@
+DELETE FROM addresses WHERE person_id IS NULL;
+
+ALTER TABLE addresses DROP CONSTRAINT fk_addresses_person;
+ALTER TABLE addresses DROP CONSTRAINT uk_addresses_person_id;
+ALTER TABLE addresses DROP CONSTRAINT pk_addresses;
+ALTER TABLE addresses DROP COLUMN id;
+ALTER TABLE addresses ALTER COLUMN person_id SET NOT NULL;
+ALTER TABLE addresses ADD CONSTRAINT pk_addresses PRIMARY KEY (person_id);
+ALTER TABLE addresses ADD CONSTRAINT fk_addresses_person FOREIGN KEY (person_id) REFERENCES persons (id);
+
+DROP SEQUENCE addresses_seq;
@@ -0,0 +1,147 @@
+package com.luiz.helpdesk.application.services;
+
+import com.luiz.helpdesk.application.ports.out.ChangeEventPort;
+import com.luiz.helpdesk.application.ports.out.DecryptionPort;
+import com.luiz.helpdesk.application.ports.out.PasswordEncoderPort;
+import com.luiz.helpdesk.application.ports.out.PersonPersistenceOutputPort;
+import com.luiz.helpdesk.domain.enums.ImportStatus;
+import com.luiz.helpdesk.domain.model.Address;
+import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonImportProgress;
+import com.luiz.helpdesk.domain.model.PersonImportResult;
+import com.luiz.helpdesk.domain.model.PersonImportRow;
+import com.luiz.helpdesk.domain.model.PersonUniqueKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PersonImportServiceTest {
+
+    private PersonPersistenceOutputPort personRepository;
+    private PasswordEncoderPort passwordEncoder;
+    private DecryptionPort decryptionService;
+    private ChangeEventPort changeEventPort;
+    private PersonImportService service;
+
+    private final List<PersonImportResult> results = new ArrayList<>();
+    private final List<PersonImportProgress> progress = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        personRepository = mock(PersonPersistenceOutputPort.class);
+        passwordEncoder = mock(PasswordEncoderPort.class);
+        decryptionService = mock(DecryptionPort.class);
+        changeEventPort = mock(ChangeEventPort.class);
+        service = new PersonImportService(personRepository, passwordEncoder, decryptionService, changeEventPort);
+
+        when(personRepository.findExistingUniqueKeys(anySet(), anySet())).thenReturn(new PersonUniqueKeys(Set.of(), Set.of()));
+        when(decryptionService.decrypt(anyString())).thenAnswer(invocation -> "raw-" + invocation.getArgument(0));
+        when(passwordEncoder.encodeAll(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(password -> "encoded-" + password)
+                .toList());
+        AtomicInteger ids = new AtomicInteger();
+        when(personRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.<List<Person>>getArgument(0).stream()
+                .map(person -> person.toBuilder().withId(ids.incrementAndGet()).build())
+                .toList());
+    }
+
+    @Test
+    void rejectsInvalidRowsAndCreatesTheRest() {
+        Person withoutAddress = person("11111111111", "semendereco@email.com").withAddress(null);
+
+        PersonImportProgress summary = importRows(2,
+                PersonImportRow.of(1, person("123.456.789-09", "ana@email.com")),
+                PersonImportRow.invalid(2, "JSON inválido"),
+                PersonImportRow.of(3, withoutAddress));
+
+        assertEquals(new PersonImportProgress(3, 1, 2, 0), summary);
+        assertEquals(ImportStatus.CREATED, results.get(0).status());
+        assertEquals(1, results.get(0).id());
+        assertEquals(List.of("JSON inválido"), results.get(1).errors());
+        assertEquals(List.of("A pessoa deve ter um endereço"), results.get(2).errors());
+        assertEquals(2, progress.size());
+    }
+
+    @Test
+    void rejectsDuplicatesWithinAndAcrossChunks() {
+        PersonImportProgress summary = importRows(2,
+                PersonImportRow.of(1, person("123.456.789-09", "ana@email.com")),
+                PersonImportRow.of(2, person("12345678909", "outra@email.com")),
+                PersonImportRow.of(3, person("987.654.321-00", " ANA@email.com ")));
+
+        assertEquals(new PersonImportProgress(3, 1, 2, 0), summary);
+        assertEquals(ImportStatus.CREATED, results.get(0).status());
+        assertEquals(List.of("Já existe uma pessoa com CPF 12345678909"), results.get(1).errors());
+        assertEquals(ImportStatus.REJECTED, results.get(2).status());
+        assertTrue(results.get(2).errors().get(0).startsWith("Já existe uma pessoa com e-mail"));
+    }
+
+    @Test
+    void rejectsRowsAlreadyStored() {
+        when(personRepository.findExistingUniqueKeys(anySet(), anySet()))
+                .thenReturn(new PersonUniqueKeys(Set.of("12345678909"), Set.of()));
+
+        PersonImportProgress summary = importRows(10, PersonImportRow.of(1, person("123.456.789-09", "ana@email.com")));
+
+        assertEquals(new PersonImportProgress(1, 0, 1, 0), summary);
+        verify(passwordEncoder, never()).encodeAll(anyList());
+        verify(changeEventPort, never()).publishAfterCommit(any());
+    }
+
+    @Test
+    void marksTheChunkAsFailedWhenSavingFailsAndFreesItsKeys() {
+        when(personRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("conexão perdida"))
+                .thenAnswer(invocation -> invocation.<List<Person>>getArgument(0).stream()
+                        .map(person -> person.toBuilder().withId(7).build())
+                        .toList());
+
+        PersonImportProgress summary = importRows(1,
+                PersonImportRow.of(1, person("123.456.789-09", "ana@email.com")),
+                PersonImportRow.of(2, person("123.456.789-09", "ana@email.com")));
+
+        assertEquals(new PersonImportProgress(2, 1, 0, 1), summary);
+        assertEquals(List.of("Falha ao gravar o lote: conexão perdida"), results.get(0).errors());
+        assertEquals(ImportStatus.CREATED, results.get(1).status());
+    }
+
+    private PersonImportProgress importRows(int chunkSize, PersonImportRow... rows) {
+        return service.importPersons(List.of(rows).iterator(), chunkSize, results::add, progress::add);
+    }
+
+    private static Person person(String cpf, String email) {
+        return Person.builder()
+                .withName("Pessoa")
+                .withCpf(cpf)
+                .withEmail(email)
+                .withPassword("criptografada")
+                .withProfile(2)
+                .withTheme(1)
+                .withCreationDate(LocalDate.of(2024, 1, 1))
+                .withAddress(Address.builder()
+                        .withStreet("Rua A")
+                        .withNeighborhood("Centro")
+                        .withCity("Recife")
+                        .withState("PE")
+                        .withZipCode("50000-000")
+                        .withNumber("10")
+                        .build())
+                .build();
+    }
+}
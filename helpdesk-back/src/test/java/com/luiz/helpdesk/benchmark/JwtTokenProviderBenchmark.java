@@ -0,0 +1,69 @@
+package com.luiz.helpdesk.benchmark;
+
+import com.luiz.helpdesk.domain.model.TokenClaims;
+import com.luiz.helpdesk.infrastructure.adapters.out.config.JwtTokenProvider;
+import com.luiz.helpdesk.infrastructure.adapters.out.config.security.PersonSecurityVersionAdapter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "5@ByTKcDaET3#;6_gY({Y{S9MXma0!cn";
+
+    private SecretKey key;
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, null, new PersonSecurityVersionAdapter());
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .claim("sub", "admin@email.com")
+                .claim("id", 1)
+                .claim("name", "Luiz Generoso")
+                .claim("profile", 0)
+                .claim("theme", 5)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public String validateThenExtractEmail() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String parseVerifiedOnce() {
+        Optional<TokenClaims> claims = jwtTokenProvider.parseVerified(token);
+        return claims.map(TokenClaims::email).orElse(null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
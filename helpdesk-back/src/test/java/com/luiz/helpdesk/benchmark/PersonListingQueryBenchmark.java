@@ -0,0 +1,83 @@
+package com.luiz.helpdesk.benchmark;
+
+import com.luiz.helpdesk.HelpdeskApplication;
+import com.luiz.helpdesk.domain.model.Pagination;
+import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.PersonPersistenceOutputAdapter;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.PersonEntity;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.springdata.JpaPersonRepository;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonFilterOperationsUtil;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.SpecificationUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonListingQueryBenchmark {
+
+    private static final Map<String, String> FILTERS = Map.of("profile", "1,2", "creationDateTo", "2999-12-31");
+    private static final Sort SORT = Sort.by(Sort.Direction.ASC, "name").and(Sort.by(Sort.Direction.ASC, "id"));
+
+    private ConfigurableApplicationContext context;
+    private PersonPersistenceOutputAdapter personPersistenceOutputAdapter;
+    private JpaPersonRepository jpaPersonRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setup() {
+        context = SpringApplication.run(HelpdeskApplication.class,
+                "--server.port=0",
+                "--dataset.persons=2000",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.luiz.helpdesk=WARN",
+                "--logging.level.org.springframework.web=WARN");
+        personPersistenceOutputAdapter = context.getBean(PersonPersistenceOutputAdapter.class);
+        jpaPersonRepository = context.getBean(JpaPersonRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PersonEntity> criteriaQueryPerRequest() {
+        return readOnlyTransaction.execute(status -> {
+            Specification<PersonEntity> spec = SpecificationUtil.createSpecification(FILTERS, PersonFilterOperationsUtil.getFilterOperations());
+            return jpaPersonRepository.findBy(spec, query -> query.sortBy(SORT).project("address").limit(21).all());
+        });
+    }
+
+    @Benchmark
+    public List<Person> cachedQueryPlan() {
+        return personPersistenceOutputAdapter.getPersonSliceWithFilters(
+                Pagination.of(0, 20, List.of(), 0, 0), "name", "ASC", FILTERS).content();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PersonListingQueryBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
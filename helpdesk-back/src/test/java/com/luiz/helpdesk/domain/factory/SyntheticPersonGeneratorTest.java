@@ -0,0 +1,58 @@
+package com.luiz.helpdesk.domain.factory;
+
+import com.luiz.helpdesk.domain.model.Person;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticPersonGeneratorTest {
+
+    private static final LocalDate CREATION_DATE = LocalDate.of(2024, 1, 1);
+    private static final int SAMPLE_SIZE = 20_000;
+
+    @Test
+    void sameSeedGeneratesTheSamePersons() {
+        SyntheticPersonGenerator first = newGenerator(42);
+        SyntheticPersonGenerator second = newGenerator(42);
+
+        for (long index : new long[]{0, 1, 999, 123_456, SyntheticPersonGenerator.MAX_PERSONS - 1}) {
+            assertEquals(describe(first.generate(index)), describe(second.generate(index)));
+        }
+        assertEquals(CREATION_DATE, first.generate(7).getCreationDate());
+    }
+
+    @Test
+    void differentSeedsGenerateDifferentCpfs() {
+        assertNotEquals(newGenerator(42).generate(0).getCpf(), newGenerator(43).generate(0).getCpf());
+    }
+
+    @Test
+    void cpfsAndEmailsAreUniqueAcrossIndices() {
+        SyntheticPersonGenerator generator = newGenerator(42);
+        Set<String> cpfs = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+
+        for (long index = 0; index < SAMPLE_SIZE; index++) {
+            Person person = generator.generate(index);
+            assertTrue(cpfs.add(person.getCpf()), "CPF repetido no índice " + index);
+            assertTrue(emails.add(person.getEmail()), "E-mail repetido no índice " + index);
+        }
+    }
+
+    private static SyntheticPersonGenerator newGenerator(long seed) {
+        return new SyntheticPersonGenerator(seed, "encoded", CREATION_DATE, new PersonFactoryImpl(), new AddressFactoryImpl());
+    }
+
+    private static List<Object> describe(Person person) {
+        return List.of(person.getName(), person.getCpf(), person.getEmail(), person.getProfile(), person.getTheme(),
+                person.getCreationDate(), person.getAddress().getStreet(), person.getAddress().getCity(),
+                person.getAddress().getState(), person.getAddress().getZipCode(), person.getAddress().getNumber());
+    }
+}
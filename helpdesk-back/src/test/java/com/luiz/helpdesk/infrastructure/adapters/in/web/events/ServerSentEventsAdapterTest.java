@@ -0,0 +1,163 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.events;
+
+import com.luiz.helpdesk.domain.model.ChangeEvent;
+import com.luiz.helpdesk.infrastructure.adapters.in.web.rest.ChangeEventController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerSentEventsAdapterTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<RecordingEmitter> emitters = new ArrayDeque<>();
+    private ServerSentEventsAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        adapter.shutdown();
+    }
+
+    @Test
+    void dropsTheOldestEventWhenASubscriberFallsBehind() throws Exception {
+        adapter = newAdapter(2, 60_000);
+        RecordingEmitter emitter = subscribe(true);
+
+        publish(0);
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        for (int id = 1; id <= QUEUE_CAPACITY + 1; id++) {
+            publish(id);
+        }
+        emitter.release.countDown();
+
+        awaitTrue(() -> emitter.received.size() == QUEUE_CAPACITY + 1);
+        assertEquals(List.of(0, 2, 3, 4), emitter.received);
+        assertEquals(1.0, meterRegistry.counter("events.sse.dropped").count());
+    }
+
+    @Test
+    void refusesSubscribersOverTheConnectionLimit() {
+        adapter = newAdapter(1, 60_000);
+        ChangeEventController controller = new ChangeEventController(adapter);
+
+        ResponseEntity<SseEmitter> accepted = controller.subscribe();
+        ResponseEntity<SseEmitter> refused = controller.subscribe();
+
+        assertEquals(HttpStatus.OK, accepted.getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, refused.getStatusCode());
+        assertEquals("5", refused.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, adapter.connectionCount());
+    }
+
+    @Test
+    void removesASubscriberWhoseSendFails() throws Exception {
+        adapter = newAdapter(1, 60_000);
+        RecordingEmitter failing = subscribe(false);
+        failing.failure = new IOException("conexão encerrada");
+
+        publish(1);
+
+        awaitTrue(() -> adapter.connectionCount() == 0);
+        assertTrue(adapter.subscribe().isPresent());
+    }
+
+    @Test
+    void stalledSubscriberIsDroppedWithoutDelayingTheOthers() throws Exception {
+        adapter = newAdapter(2, 50);
+        RecordingEmitter stalled = subscribe(true);
+        RecordingEmitter healthy = subscribe(false);
+
+        publish(1);
+        assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+        publish(2);
+        awaitTrue(() -> healthy.received.size() == 2);
+
+        Thread.sleep(100);
+        adapter.dropStalledSubscribers();
+
+        assertEquals(1, adapter.connectionCount());
+        assertEquals(1.0, meterRegistry.counter("events.sse.stalled").count());
+        publish(3);
+        awaitTrue(() -> healthy.received.size() == 3);
+        assertEquals(List.of(1, 2, 3), healthy.received);
+    }
+
+    private ServerSentEventsAdapter newAdapter(int maxConnections, long sendTimeoutMillis) {
+        return new ServerSentEventsAdapter(maxConnections, QUEUE_CAPACITY, 60_000, sendTimeoutMillis, 1, meterRegistry,
+                timeout -> {
+                    RecordingEmitter emitter = new RecordingEmitter(timeout);
+                    emitters.add(emitter);
+                    return emitter;
+                });
+    }
+
+    private RecordingEmitter subscribe(boolean blockFirstSend) {
+        adapter.subscribe().orElseThrow();
+        RecordingEmitter emitter = emitters.getLast();
+        if (!blockFirstSend) {
+            emitter.release.countDown();
+        }
+        return emitter;
+    }
+
+    private void publish(int id) {
+        adapter.publishAfterCommit(ChangeEvent.of("person", "updated", id));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condição não atendida a tempo");
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Integer> received = new CopyOnWriteArrayList<>();
+        private volatile IOException failure;
+
+        private RecordingEmitter(Long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(ChangeEvent.class::isInstance)
+                    .map(data -> ((ChangeEvent) data).id())
+                    .forEach(received::add);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luiz.helpdesk.domain.model.PersonImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersonImportReaderTest {
+
+    private static final String CSV_HEADER = "name,cpf,email,password,profile,theme,street,complement,neighborhood,city,state,zipCode,number\r\n";
+
+    @Test
+    void readsQuotedCsvValuesAndSkipsBlankLines() {
+        List<PersonImportRow> rows = read(PersonImportFormat.CSV, CSV_HEADER
+                + "\"Silva, Ana\",123.456.789-09,ana@email.com,secret,2,,\"Rua \"\"A\"\"\",,Centro,Recife,PE,50000-000,10\r\n"
+                + "\r\n"
+                + "Bruno,987.654.321-00,bruno@email.com,secret,3,1,Rua B,Apto 2,Boa Vista,Recife,PE,50000-001,20\n");
+
+        assertEquals(2, rows.size());
+        PersonImportRow first = rows.get(0);
+        assertTrue(first.isValid());
+        assertEquals(1, first.rowNumber());
+        assertEquals("Silva, Ana", first.person().getName());
+        assertEquals("Rua \"A\"", first.person().getAddress().getStreet());
+        assertNull(first.person().getAddress().getComplement());
+        assertEquals(2, rows.get(1).rowNumber());
+        assertEquals(3, rows.get(1).person().getProfile());
+        assertEquals("Apto 2", rows.get(1).person().getAddress().getComplement());
+    }
+
+    @Test
+    void rejectsCsvRowsWithWrongColumnCountOrInvalidNumbers() {
+        List<PersonImportRow> rows = read(PersonImportFormat.CSV, CSV_HEADER
+                + "Ana,123.456.789-09,ana@email.com\n"
+                + "Bruno,987.654.321-00,bruno@email.com,secret,x,1,Rua B,,Boa Vista,Recife,PE,50000-001,20\n");
+
+        assertEquals(2, rows.size());
+        assertFalse(rows.get(0).isValid());
+        assertEquals("A linha possui 3 colunas, esperado 13", rows.get(0).error());
+        assertFalse(rows.get(1).isValid());
+        assertTrue(rows.get(1).error().startsWith("Valor numérico inválido"));
+    }
+
+    @Test
+    void readsNdjsonRowsAndRejectsMalformedOrIncompleteOnes() {
+        List<PersonImportRow> rows = read(PersonImportFormat.NDJSON,
+                "{\"name\":\"Ana\",\"cpf\":\"123.456.789-09\",\"email\":\"ana@email.com\",\"password\":\"secret\",\"profile\":2,"
+                        + "\"address\":{\"street\":\"Rua A\",\"neighborhood\":\"Centro\",\"city\":\"Recife\",\"state\":\"PE\",\"zipCode\":\"50000-000\",\"number\":\"10\"}}\n"
+                        + "\n"
+                        + "{not json}\n"
+                        + "{\"name\":\"Bruno\",\"cpf\":\"987.654.321-00\",\"email\":\"bruno@email.com\"}\n");
+
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(0).isValid());
+        assertEquals("Recife", rows.get(0).person().getAddress().getCity());
+        assertFalse(rows.get(1).isValid());
+        assertEquals(2, rows.get(1).rowNumber());
+        assertTrue(rows.get(1).error().startsWith("JSON inválido"));
+        assertFalse(rows.get(2).isValid());
+        assertEquals(3, rows.get(2).rowNumber());
+    }
+
+    @Test
+    void emptyBodyHasNoRows() {
+        PersonImportReader reader = newReader(PersonImportFormat.CSV, "");
+
+        assertFalse(reader.hasNext());
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    private static List<PersonImportRow> read(PersonImportFormat format, String body) {
+        List<PersonImportRow> rows = new ArrayList<>();
+        newReader(format, body).forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static PersonImportReader newReader(PersonImportFormat format, String body) {
+        return new PersonImportReader(format, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), new ObjectMapper().findAndRegisterModules());
+    }
+}
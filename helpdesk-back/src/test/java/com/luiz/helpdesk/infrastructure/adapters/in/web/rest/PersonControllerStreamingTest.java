@@ -0,0 +1,41 @@
+package com.luiz.helpdesk.infrastructure.adapters.in.web.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "persistence.stream.request-timeout-millis=12345")
+@AutoConfigureMockMvc(addFilters = false)
+class PersonControllerStreamingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exportStreamsWithItsOwnFiniteTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/persons/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(12345, started.getRequest().getAsyncContext().getTimeout());
+
+        MvcResult finished = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"persons.ndjson\""))
+                .andReturn();
+        assertTrue(finished.getResponse().getContentAsString().lines().findAny().isPresent());
+    }
+}
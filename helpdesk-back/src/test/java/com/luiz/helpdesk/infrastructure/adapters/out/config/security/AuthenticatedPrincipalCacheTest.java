@@ -0,0 +1,125 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.config.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthenticatedPrincipalCacheTest {
+
+    private static final Instant EXPIRATION = Instant.now().plusSeconds(3600);
+
+    @Test
+    void evictsLeastRecentlyUsedEntryAndForgetsItsPerson() {
+        AuthenticatedPrincipalCache cache = newCache(2);
+        put(cache, "a", 1);
+        put(cache, "b", 2);
+        assertTrue(cache.get("a").isPresent());
+        put(cache, "c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.trackedPersons());
+        assertTrue(cache.get("a").isPresent());
+        assertFalse(cache.get("b").isPresent());
+        assertTrue(cache.get("c").isPresent());
+    }
+
+    @Test
+    void evictingAPersonDropsItsEntriesAndTracking() {
+        AuthenticatedPrincipalCache cache = newCache(10);
+        put(cache, "a", 1);
+        put(cache, "b", 1);
+        put(cache, "a", 1);
+
+        cache.evictPerson(1);
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.trackedPersons());
+    }
+
+    @Test
+    void refusesPrincipalsLoadedBeforeAnEviction() {
+        AuthenticatedPrincipalCache cache = newCache(10);
+        long generation = cache.generation(1);
+        cache.evictPerson(1);
+
+        cache.put("a", EXPIRATION, userDetails(1), generation);
+
+        assertFalse(cache.get("a").isPresent());
+        assertEquals(0, cache.trackedPersons());
+    }
+
+    @Test
+    void stripedCacheStaysBoundedAndTracksOnlyCachedEntries() {
+        AuthenticatedPrincipalCache cache = newCache(1024);
+        for (int personId = 1; personId <= 4096; personId++) {
+            put(cache, "token-" + personId, personId);
+        }
+
+        assertTrue(cache.size() <= 1024);
+        assertTrue(cache.size() > 512);
+        assertEquals(cache.size(), cache.trackedPersons());
+        assertTrue(cache.get("token-4096").isPresent());
+
+        cache.evictPerson(4096);
+
+        assertFalse(cache.get("token-4096").isPresent());
+        assertEquals(cache.size(), cache.trackedPersons());
+    }
+
+    @Test
+    void concurrentEvictionsNeverLeaveStalePrincipals() throws Exception {
+        AuthenticatedPrincipalCache cache = newCache(1024);
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int worker = 0; worker < 4; worker++) {
+                int offset = worker;
+                results.add(workers.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        int personId = (i + offset) % 32;
+                        if (offset % 2 == 0) {
+                            put(cache, "token-" + personId + "-" + (i % 8), personId);
+                        } else {
+                            cache.evictPerson(personId);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        for (int personId = 0; personId < 32; personId++) {
+            cache.evictPerson(personId);
+        }
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.trackedPersons());
+    }
+
+    private static AuthenticatedPrincipalCache newCache(int maxSize) {
+        return new AuthenticatedPrincipalCache(true, 300, maxSize, 16, new SimpleMeterRegistry());
+    }
+
+    private static void put(AuthenticatedPrincipalCache cache, String token, int personId) {
+        cache.put(token, EXPIRATION, userDetails(personId), cache.generation(personId));
+    }
+
+    private static CustomUserDetails userDetails(int personId) {
+        return new CustomUserDetails(personId, "person" + personId + "@email.com", "", List.of(), "0", "Person " + personId, 0);
+    }
+}
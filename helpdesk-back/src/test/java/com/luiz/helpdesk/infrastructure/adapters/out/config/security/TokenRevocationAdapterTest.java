@@ -0,0 +1,76 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void revokedTokenSurvivesARestart() {
+        Path storeFile = directory.resolve("revocations/revoked-tokens.txt");
+        String tokenId = UUID.randomUUID().toString();
+
+        newAdapter(storeFile).revoke(tokenId, Instant.now().plusSeconds(3600));
+        TokenRevocationAdapter restarted = newAdapter(storeFile);
+
+        assertTrue(restarted.isRevoked(tokenId));
+        assertFalse(restarted.isRevoked(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void expiredIdsAreDroppedWhenTheStoreIsLoaded() throws IOException {
+        Path storeFile = directory.resolve("revoked-tokens.txt");
+        String active = UUID.randomUUID().toString();
+        String expired = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        Files.write(storeFile, List.of(
+                active + " " + (now + 3_600_000),
+                expired + " " + (now - 1_000),
+                UUID.randomUUID().toString().substring(0, 10)
+        ), StandardCharsets.UTF_8);
+
+        TokenRevocationAdapter adapter = newAdapter(storeFile);
+
+        assertTrue(adapter.isRevoked(active));
+        assertFalse(adapter.isRevoked(expired));
+        assertEquals(List.of(active + " " + (now + 3_600_000)), Files.readAllLines(storeFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void purgeRemovesExpiredIdsFromTheStore() throws Exception {
+        Path storeFile = directory.resolve("revoked-tokens.txt");
+        String shortLived = UUID.randomUUID().toString();
+        String longLived = UUID.randomUUID().toString();
+        TokenRevocationAdapter adapter = newAdapter(storeFile);
+        adapter.revoke(shortLived, Instant.now().plusMillis(50));
+        adapter.revoke(longLived, Instant.now().plusSeconds(3600));
+
+        Thread.sleep(100);
+        adapter.purgeExpired();
+
+        List<String> lines = Files.readAllLines(storeFile, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith(longLived + " "));
+        assertFalse(newAdapter(storeFile).isRevoked(shortLived));
+    }
+
+    private static TokenRevocationAdapter newAdapter(Path storeFile) {
+        return new TokenRevocationAdapter(storeFile.toString(), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,38 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonQueryPlan;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PersonCountCacheTest {
+
+    private final PersonCountCache cache = new PersonCountCache(true, 100, new SimpleMeterRegistry());
+
+    @Test
+    void filtersThatBindToTheSameParametersShareATotal() {
+        assertEquals(3, count(Map.of("name", "Ana", "profile", "1,2"), 3));
+        assertEquals(3, count(Map.of("name", "ana", "profile", "1, 2", "unknown", "x"), 5));
+    }
+
+    @Test
+    void filtersThatBindDifferentlyKeepTheirOwnTotals() {
+        assertEquals(3, count(Map.of("name", "ana"), 3));
+        assertEquals(7, count(Map.of("name", " ana"), 7));
+        assertEquals(3, count(Map.of("name", "ana"), 11));
+    }
+
+    @Test
+    void invalidationDiscardsCachedTotals() {
+        assertEquals(3, count(Map.of("name", "ana"), 3));
+        cache.invalidate();
+        assertEquals(4, count(Map.of("name", "ana"), 4));
+    }
+
+    private long count(Map<String, String> filters, long total) {
+        return cache.count(PersonQueryPlan.bindFilters(filters), () -> total);
+    }
+}
@@ -0,0 +1,342 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence;
+
+import com.luiz.helpdesk.domain.model.CursorPagination;
+import com.luiz.helpdesk.domain.model.Pagination;
+import com.luiz.helpdesk.domain.model.Person;
+import com.luiz.helpdesk.domain.model.PersonFieldSelection;
+import com.luiz.helpdesk.domain.model.PersonUniqueKeys;
+import com.luiz.helpdesk.domain.model.SlicePagination;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.AddressEntity;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.entity.PersonEntity;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.springdata.JpaPersonRepository;
+import com.luiz.helpdesk.infrastructure.adapters.out.persistence.utils.PersonQueryPlan;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PersonPersistenceOutputAdapterTest {
+
+    private static final int SEEDED_PERSONS = 60;
+    private static final long MAX_STATEMENTS_PER_PAGE = 1;
+
+    @Autowired
+    private PersonPersistenceOutputAdapter personPersistenceOutputAdapter;
+
+    @Autowired
+    private JpaPersonRepository jpaPersonRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PersonTrigramIndex personTrigramIndex;
+
+    @Autowired
+    private EmailMembershipIndex emailMembershipIndex;
+
+    @Autowired
+    private PersonIndexCoverageCheck personIndexCoverageCheck;
+
+    @Autowired
+    private PersonQueryPlanCache personQueryPlanCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!jpaPersonRepository.existsByEmailKey(emailOf(0))) {
+            List<PersonEntity> persons = new ArrayList<>();
+            for (int i = 0; i < SEEDED_PERSONS; i++) {
+                persons.add(newPerson(i));
+            }
+            jpaPersonRepository.saveAll(persons);
+            emailMembershipIndex.rebuild();
+        }
+    }
+
+    @Test
+    void listingPageUsesFixedNumberOfStatements() {
+        countStatementsForPage(5);
+        long smallPage = countStatementsForPage(5);
+        long largePage = countStatementsForPage(50);
+
+        assertEquals(smallPage, largePage);
+        assertTrue(largePage <= MAX_STATEMENTS_PER_PAGE, "Statements per page: " + largePage);
+    }
+
+    @Test
+    void listingPageLoadsAddressesAndCollections() {
+        Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 100, List.of(), 0, 0), "id", "ASC", Map.of("email", "fetchplan"));
+
+        assertEquals(SEEDED_PERSONS, page.content().size());
+        page.content().forEach(person -> {
+            assertNotNull(person.getAddress());
+            assertNotNull(person.getProfile());
+            assertNotNull(person.getTheme());
+        });
+    }
+
+    @Test
+    void totalsAreCachedPerFilterAndStayExactAfterWrites() {
+        Map<String, String> filters = Map.of("email", "fetchplan", "name", "fetch plan");
+        Pagination<Person> first = pageWithStatements(filters, 2);
+        Pagination<Person> repeated = pageWithStatements(filters, 1);
+        assertEquals(first.totalElements(), repeated.totalElements());
+
+        Person extra = personPersistenceOutputAdapter.save(newPerson(SEEDED_PERSONS).toDomainModel());
+        try {
+            assertEquals(first.totalElements() + 1, pageWithStatements(filters, 2).totalElements());
+        } finally {
+            personPersistenceOutputAdapter.deleteById(extra.getId());
+        }
+        assertEquals(first.totalElements(), pageWithStatements(filters, 2).totalElements());
+    }
+
+    @Test
+    void fieldSelectionReturnsOnlyRequestedColumns() {
+        PersonFieldSelection selection = PersonFieldSelection.parse("name,email", "address").orElseThrow();
+        Pagination<Map<String, Object>> page = personPersistenceOutputAdapter.getPersonFieldsWithFilters(
+                Pagination.of(0, 5, List.of(), 0, 0), selection, "id", "ASC", Map.of("email", "fetchplan"));
+
+        assertEquals(5, page.content().size());
+        page.content().forEach(row -> {
+            assertEquals(List.of("id", "name", "email", "address"), List.copyOf(row.keySet()));
+            assertNotNull(row.get("address"));
+        });
+    }
+
+    @Test
+    void exportStreamsAllMatchingRowsInOneQuery() {
+        List<Person> exported = new ArrayList<>();
+        statistics.clear();
+        long processed = personPersistenceOutputAdapter.forEachPersonWithFilters("id", "ASC", Map.of("email", "fetchplan"), exported::add);
+
+        assertEquals(SEEDED_PERSONS, processed);
+        assertEquals(SEEDED_PERSONS, exported.size());
+        exported.forEach(person -> assertNotNull(person.getAddress()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void slicePageReportsNextWithoutCount() {
+        statistics.clear();
+        SlicePagination<Person> slice = personPersistenceOutputAdapter.getPersonSliceWithFilters(
+                Pagination.of(0, 10, List.of(), 0, 0), "id", "ASC", Map.of("email", "fetchplan"));
+
+        assertEquals(10, slice.content().size());
+        assertTrue(slice.hasNext());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cursorPagesWalkAllRowsInSortOrderWithoutCount() {
+        Map<String, String> filters = Map.of("email", "fetchplan");
+        List<String> names = new ArrayList<>();
+        String cursor = "";
+        long statements = 0;
+        do {
+            statistics.clear();
+            CursorPagination<Person> page = personPersistenceOutputAdapter.getPersonsAfterCursor(cursor, 7, "name", "DESC", filters);
+            statements = Math.max(statements, statistics.getPrepareStatementCount());
+            page.content().forEach(person -> names.add(person.getName()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(SEEDED_PERSONS, names.size());
+        assertEquals(SEEDED_PERSONS, names.stream().distinct().count());
+        assertEquals(names.stream().sorted(Comparator.reverseOrder()).toList(), names);
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void addressSharesThePersonKeyAndIsOnlyLoadedWhenRequested() {
+        statistics.clear();
+        Person account = personPersistenceOutputAdapter.findByEmailWithoutAddress(emailOf(3)).orElseThrow();
+        assertNull(account.getAddress());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        Person person = personPersistenceOutputAdapter.findById(account.getId()).orElseThrow();
+        assertEquals(person.getId(), person.getAddress().getId());
+        assertEquals(person.getId(), person.getAddress().getPersonId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void lookupsUseNormalizedCpfAndEmailKeys() {
+        Person byFormattedCpf = personPersistenceOutputAdapter.findByCpf("900.000.000-05").orElseThrow();
+        Person byEmail = personPersistenceOutputAdapter.findByEmail(" FetchPlan5@Email.com ").orElseThrow();
+
+        assertEquals(emailOf(5), byFormattedCpf.getEmail());
+        assertEquals(byFormattedCpf.getId(), byEmail.getId());
+        assertTrue(personPersistenceOutputAdapter.existsByEmailAndIdNot("FETCHPLAN5@EMAIL.COM", null));
+        assertFalse(personPersistenceOutputAdapter.existsByCpfAndIdNot("900.000.000-05", byEmail.getId()));
+
+        Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 100, List.of(), 0, 0), "id", "ASC", Map.of("cpf", "900.000.000-1"));
+        assertEquals(10, page.content().size());
+    }
+
+    @Test
+    void rowsWrittenOutsideThisNodeAreFoundAfterTheIndexIsVerified() {
+        int externalId = jpaPersonRepository.findMaxId() + 1_000;
+        jdbcTemplate.update("INSERT INTO persons (id, name, cpf, email, cpf_key, email_key, password, profile, theme, creation_date) "
+                        + "VALUES (?, 'Linha Externa', '99999999999', 'externa@email.com', '99999999999', 'externa@email.com', '{noop}secret', 1, 1, ?)",
+                externalId, LocalDate.now());
+        try {
+            personTrigramIndex.verify();
+
+            Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                    Pagination.of(0, 10, List.of(), 0, 0), "id", "ASC", Map.of("name", "linha externa"));
+            assertEquals(List.of(externalId), page.content().stream().map(Person::getId).toList());
+        } finally {
+            jdbcTemplate.update("DELETE FROM persons WHERE id = ?", externalId);
+        }
+    }
+
+    @Test
+    void trigramIndexNarrowsSubstringFiltersToCandidateIds() {
+        Set<Integer> candidates = personTrigramIndex.candidates(Map.of("email", "FetchPlan1")).orElseThrow();
+        Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 100, List.of(), 0, 0), "id", "ASC", Map.of("email", "FetchPlan1"));
+
+        assertEquals(11, page.content().size());
+        page.content().forEach(person -> assertTrue(candidates.contains(person.getId())));
+        assertTrue(personTrigramIndex.candidates(Map.of("name", "zzzqqq")).orElseThrow().isEmpty());
+        assertTrue(personTrigramIndex.candidates(Map.of("name", "fe")).isEmpty());
+
+        Pagination<Person> padded = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 100, List.of(), 0, 0), "id", "ASC", Map.of("email", " FetchPlan1@"));
+        assertEquals(1, padded.content().size());
+    }
+
+    @Test
+    void listingsWithTheSameFilterKeysShareOneCompiledPlan() {
+        Sort sort = Sort.by("name").and(Sort.by("id"));
+        PersonQueryPlan plan = personQueryPlanCache.plan(Map.of("email", "fetchplan1", "profile", "1"), true, sort);
+
+        assertSame(plan, personQueryPlanCache.plan(Map.of("profile", "2", "email", "fetchplan2", "city", "x"), true, sort));
+        assertNotSame(plan, personQueryPlanCache.plan(Map.of("email", "fetchplan1"), true, sort));
+
+        Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 100, List.of(), 0, 0), "name", "ASC", Map.of("email", "fetchplan1", "profile", "1"));
+        assertFalse(page.content().isEmpty());
+        assertEquals(page.content().size(), page.totalElements());
+        page.content().forEach(person -> {
+            assertEquals(1, person.getProfile());
+            assertTrue(person.getEmail().startsWith("fetchplan1"));
+        });
+
+        Pagination<Person> none = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 5, List.of(), 0, 0), "id", "ASC", Map.of("name", "zzzqqq"));
+        assertTrue(none.content().isEmpty());
+        assertEquals(0, none.totalElements());
+    }
+
+    @Test
+    void everyFilterAndSortHasASupportingIndexAndOtherSortsAreRejected() {
+        assertEquals(List.of(), personIndexCoverageCheck.unsupportedFields());
+
+        Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 5, List.of(), 0, 0), "creationDate,asc", "DESC", Map.of("profile", "1"));
+        assertEquals(5, page.content().size());
+        assertThrows(IllegalArgumentException.class, () -> personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 5, List.of(), 0, 0), "password", "ASC", Map.of()));
+    }
+
+    @Test
+    void bulkSaveAssignsIdsAndExistingKeysComeFromOneQuery() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            PersonEntity entity = newPerson(i);
+            entity.setCpf(String.format("901%08d", i));
+            entity.setEmail("bulkimport" + i + "@email.com");
+            persons.add(entity.toDomainModel());
+        }
+        List<Person> saved = personPersistenceOutputAdapter.saveAll(persons);
+        try {
+            saved.forEach(person -> assertNotNull(person.getId()));
+            assertNotNull(saved.get(0).getAddress().getId());
+
+            statistics.clear();
+            PersonUniqueKeys existing = personPersistenceOutputAdapter.findExistingUniqueKeys(
+                    Set.of("90100000003", "90199999999"), Set.of("bulkimport7@email.com", "unknown@email.com"));
+
+            assertEquals(Set.of("90100000003", "90100000007"), existing.cpfs());
+            assertTrue(existing.containsEmail("bulkimport7@email.com"));
+            assertFalse(existing.containsEmail("unknown@email.com"));
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            saved.forEach(person -> personPersistenceOutputAdapter.deleteById(person.getId()));
+        }
+    }
+
+    private Pagination<Person> pageWithStatements(Map<String, String> filters, long expectedStatements) {
+        statistics.clear();
+        Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, 10, List.of(), 0, 0), "id", "ASC", filters);
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        return page;
+    }
+
+    private long countStatementsForPage(int pageSize) {
+        statistics.clear();
+        Pagination<Person> page = personPersistenceOutputAdapter.getAllPersonsWithFilters(
+                Pagination.of(0, pageSize, List.of(), 0, 0), "id", "ASC", Map.of());
+        assertEquals(pageSize, page.content().size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static String emailOf(int index) {
+        return "fetchplan" + index + "@email.com";
+    }
+
+    private static PersonEntity newPerson(int index) {
+        PersonEntity person = new PersonEntity();
+        person.setName("Fetch Plan " + index);
+        person.setCpf(String.format("900%08d", index));
+        person.setEmail(emailOf(index));
+        person.setPassword("{noop}secret");
+        person.setProfile(index % 3);
+        person.setTheme(index % 5);
+        person.setCreationDate(LocalDate.now());
+
+        AddressEntity address = new AddressEntity();
+        address.setStreet("Rua " + index);
+        address.setNeighborhood("Centro");
+        address.setCity("Belo Horizonte");
+        address.setState("MG");
+        address.setZipCode("30130000");
+        address.setNumber(String.valueOf(index));
+        person.setAddress(address);
+        return person;
+    }
+}
@@ -0,0 +1,65 @@
+package com.luiz.helpdesk.infrastructure.adapters.out.persistence.migration;
+
+import org.h2.Driver;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SchemaMigratorTest {
+
+    private static final String LOCATIONS = "classpath*:db/test-migration/V*__*.sql";
+    private static final int NODES = 4;
+
+    @Test
+    void nodesStartingTogetherApplyEachMigrationOnce() throws Exception {
+        DataSource dataSource = newDataSource();
+        ExecutorService nodes = Executors.newFixedThreadPool(NODES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < NODES; i++) {
+                results.add(nodes.submit(() -> {
+                    start.await();
+                    new SchemaMigrator(dataSource, LOCATIONS, true).migrate();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            nodes.shutdownNow();
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals(List.of(1, 2), jdbcTemplate.queryForList("SELECT version FROM schema_history ORDER BY version", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM ticket", Integer.class));
+    }
+
+    @Test
+    void changedMigrationIsRejected() {
+        DataSource dataSource = newDataSource();
+        new SchemaMigrator(dataSource, LOCATIONS, true).migrate();
+        new JdbcTemplate(dataSource).update("UPDATE schema_history SET checksum = checksum + 1 WHERE version = 2");
+
+        assertThrows(IllegalStateException.class, () -> new SchemaMigrator(dataSource, LOCATIONS, true).migrate());
+    }
+
+    private static DataSource newDataSource() {
+        return new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+    }
+}
@@ -0,0 +1,4 @@
+CREATE TABLE ticket (
+    id integer NOT NULL PRIMARY KEY,
+    title varchar(100) NOT NULL
+);
@@ -0,0 +1 @@
+INSERT INTO ticket (id, title) VALUES (1, 'Primeiro chamado');
@@ -2,6 +2,7 @@ import { Injectable, Inject } from "@angular/core";
 import { BehaviorSubject, Observable } from "rxjs";
 import { TOKEN_STORAGE_PORT, TokenStoragePort } from "@core/domain/ports/out/token-storage.port";
 import { JWT_DECODER_PORT, JwtDecoderPort } from "@core/domain/ports/out/jwt-decoder.port";
+import { AUTH_REPOSITORY_PORT, AuthRepositoryPort } from "@core/domain/ports/out/auth-repository.port";
 import { User } from "@core/domain/models/user.model";
 import { THEME_USE_CASE_PORT, ThemeUseCasePort } from "@domain/ports/in/theme-use-case.port";
 import { Profile } from "@enums//profile.enum";
@@ -18,7 +19,8 @@ export class AuthService {
   constructor(
     @Inject(TOKEN_STORAGE_PORT) private tokenStorage: TokenStoragePort,
     @Inject(JWT_DECODER_PORT) private jwtDecoder: JwtDecoderPort,
-    @Inject(THEME_USE_CASE_PORT) private themeService: ThemeUseCasePort
+    @Inject(THEME_USE_CASE_PORT) private themeService: ThemeUseCasePort,
+    @Inject(AUTH_REPOSITORY_PORT) private authRepository: AuthRepositoryPort
   ) {
     this.currentUserSubject = new BehaviorSubject<User | null>(this.getUserFromToken());
     this.currentUser = this.currentUserSubject.asObservable();
@@ -43,6 +45,10 @@ export class AuthService {
   }
 
   logout(): void {
+    const token = this.getToken();
+    if (token) {
+      this.authRepository.revokeToken(token).catch(() => undefined);
+    }
     this.tokenStorage.removeToken();
     this.currentUserSubject.next(null);
     this.themeService.resetTheme();
@@ -4,12 +4,17 @@ import { PERSON_REPOSITORY_PORT, PersonRepositoryPort } from "@domain/ports/out/
 import { PaginatedPersonResponse, Person } from "@model//person.model";
 import { Observable } from "rxjs";
 import { GetAllPersonsParams, PersonHateoasResponse } from "@dto//hateoas-response.dto";
+import { CHANGE_EVENT_STREAM_PORT, ChangeEventStreamPort } from "@domain/ports/out/change-event-stream.port";
+import { ChangeEvent } from "@model//change-event.model";
 
 @Injectable({
   providedIn: "root"
 })
 export class PersonService implements PersonUseCasePort {
-  constructor(@Inject(PERSON_REPOSITORY_PORT) private personRepository: PersonRepositoryPort) {}
+  constructor(
+    @Inject(PERSON_REPOSITORY_PORT) private personRepository: PersonRepositoryPort,
+    @Inject(CHANGE_EVENT_STREAM_PORT) private changeEvents: ChangeEventStreamPort
+  ) {}
 
   createPerson(person: Person): Observable<Person> {
     return this.personRepository.createPerson(person);
@@ -42,4 +47,8 @@ export class PersonService implements PersonUseCasePort {
   existsPersonById(id: number): Observable<boolean> {
     return this.personRepository.existsPersonById(id);
   }
+
+  changes(): Observable<ChangeEvent> {
+    return this.changeEvents.events("person");
+  }
 }
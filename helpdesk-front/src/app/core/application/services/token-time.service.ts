@@ -3,6 +3,8 @@ import { Observable } from "rxjs";
 import { TOKEN_TIME_REPOSITORY_PORT, TokenTimeRepositoryPort } from "@domain/ports/out/token-time-repository.port";
 import { TokenTimeProfile } from "@model//token-time-profile.model";
 import { TokenTimeUseCasePort } from "@domain/ports/in/token-time-use-case.port";
+import { CHANGE_EVENT_STREAM_PORT, ChangeEventStreamPort } from "@domain/ports/out/change-event-stream.port";
+import { ChangeEvent } from "@model//change-event.model";
 
 
 @Injectable({
@@ -10,7 +12,8 @@ import { TokenTimeUseCasePort } from "@domain/ports/in/token-time-use-case.port"
 })
 export class TokenTimeService implements TokenTimeUseCasePort {
   constructor(
-    @Inject(TOKEN_TIME_REPOSITORY_PORT) private tokenTimePersistence: TokenTimeRepositoryPort
+    @Inject(TOKEN_TIME_REPOSITORY_PORT) private tokenTimePersistence: TokenTimeRepositoryPort,
+    @Inject(CHANGE_EVENT_STREAM_PORT) private changeEvents: ChangeEventStreamPort
   ) {
   }
 
@@ -41,4 +44,8 @@ export class TokenTimeService implements TokenTimeUseCasePort {
   existsByProfile(profileCode: number): Observable<boolean> {
     return this.tokenTimePersistence.existsByProfile(profileCode);
   }
+
+  changes(): Observable<ChangeEvent> {
+    return this.changeEvents.events("token-time");
+  }
 }
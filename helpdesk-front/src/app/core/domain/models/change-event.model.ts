@@ -0,0 +1,6 @@
+export interface ChangeEvent {
+  resource: string;
+  action: string;
+  id: number | null;
+  occurredAt: string;
+}
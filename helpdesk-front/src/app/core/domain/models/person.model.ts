@@ -9,6 +9,9 @@ export interface PaginatedPersonResponse {
   defaultPage: number;
   defaultSize: number;
   numberOfElements: number;
+  hasNext?: boolean;
+  cursor?: string | null;
+  nextCursor?: string | null;
 }
 
 export interface Person {
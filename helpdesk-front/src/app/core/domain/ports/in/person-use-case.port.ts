@@ -2,6 +2,7 @@ import { Observable } from "rxjs";
 import { GetAllPersonsParams, PersonHateoasResponse } from "@dto//hateoas-response.dto";
 import { PaginatedPersonResponse, Person } from "@model//person.model";
 import { InjectionToken } from "@angular/core";
+import { ChangeEvent } from "@model//change-event.model";
 
 export interface PersonUseCasePort {
 
@@ -20,6 +21,8 @@ export interface PersonUseCasePort {
   getPersonByEmail(email: string): Observable<Person>;
 
   existsPersonById(id: number): Observable<boolean>;
+
+  changes(): Observable<ChangeEvent>;
 }
 
 export const PERSON_USE_CASE_PORT = new InjectionToken<PersonUseCasePort>("PersonUseCasePort");
@@ -1,6 +1,7 @@
 import { InjectionToken } from "@angular/core";
 import { Observable } from "rxjs";
 import { TokenTimeProfile } from "@model//token-time-profile.model";
+import { ChangeEvent } from "@model//change-event.model";
 
 
 export interface TokenTimeUseCasePort {
@@ -18,6 +19,8 @@ export interface TokenTimeUseCasePort {
   getExpirationTimeInMillis(profileCode: number): Observable<number>;
 
   existsByProfile(profileCode: number): Observable<boolean>;
+
+  changes(): Observable<ChangeEvent>;
 }
 
 export const TOKEN_TIME_USE_CASE_PORT = new InjectionToken<TokenTimeUseCasePort>("TokenTimeUseCasePort");
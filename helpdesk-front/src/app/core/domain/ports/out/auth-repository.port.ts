@@ -5,6 +5,8 @@ export interface AuthRepositoryPort {
   authenticate(email: string, password: string): Promise<{ user: User; token: string }>;
 
   getCurrentUser(): Promise<User>;
+
+  revokeToken(token: string): Promise<void>;
 }
 
 export const AUTH_REPOSITORY_PORT = new InjectionToken<AuthRepositoryPort>("AuthRepositoryPort");
@@ -0,0 +1,11 @@
+import { InjectionToken } from "@angular/core";
+import { Observable } from "rxjs";
+import { ChangeEvent } from "@model//change-event.model";
+
+
+export interface ChangeEventStreamPort {
+
+  events(resource: string): Observable<ChangeEvent>;
+}
+
+export const CHANGE_EVENT_STREAM_PORT = new InjectionToken<ChangeEventStreamPort>("ChangeEventStreamPort");
@@ -50,10 +50,18 @@ export class PersonListComponent implements OnInit, AfterViewInit, OnDestroy {
 
   ngOnInit(): void {
     this.setupFilterListener();
+    this.setupChangeListener();
     this.selectedPageSize = this.pageSize;
     this.updateSelectedValue(this.pageSize);
   }
 
+  private setupChangeListener() {
+    this.personService
+      .changes()
+      .pipe(debounceTime(500), takeUntil(this.destroy$))
+      .subscribe(() => this.loadPersons());
+  }
+
   ngAfterViewInit() {
     this.dataSource.sort = this.sort;
     this.dataSource.paginator = this.paginator;
@@ -6,7 +6,7 @@ import { Profile } from "@enums//profile.enum";
 import { TokenTimeProfile } from "@model//token-time-profile.model";
 import { BehaviorSubject, distinctUntilChanged, Subject } from "rxjs";
 import { TOKEN_TIME_USE_CASE_PORT, TokenTimeUseCasePort } from "@domain/ports/in/token-time-use-case.port";
-import { takeUntil } from "rxjs/operators";
+import { filter, takeUntil } from "rxjs/operators";
 import { SettingsUtil } from "@utils//settings.util";
 
 @Component({
@@ -49,6 +49,13 @@ export class SettingsComponent implements OnInit, OnDestroy {
       this.loadTokenTimeSettings(profile);
     });
 
+    this.tokenTimeUseCase.changes().pipe(
+      filter(event => event.id === this.selectedProfileSubject.value && !this.formModified && !this.isSaving),
+      takeUntil(this.destroy$)
+    ).subscribe(() => {
+      this.loadTokenTimeSettings(this.selectedProfileSubject.value);
+    });
+
     this.tokenTimeForm.valueChanges.pipe(
       takeUntil(this.destroy$)
     ).subscribe(() => {
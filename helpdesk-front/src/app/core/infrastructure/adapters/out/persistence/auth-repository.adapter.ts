@@ -40,6 +40,15 @@ export class AuthRepositoryAdapter implements AuthRepositoryPort {
     return this.extractUserFromToken(token);
   }
 
+  async revokeToken(token: string): Promise<void> {
+    await firstValueFrom(
+      this.http.post<void>(`${this.apiUrl}/auth/logout`, null, {
+        headers: new HttpHeaders({ Authorization: `Bearer ${token}` }),
+        withCredentials: true
+      })
+    );
+  }
+
   private extractUserFromToken(token: string): User {
     const decodedToken = this.jwtHelper.decodeToken(token);
     return {
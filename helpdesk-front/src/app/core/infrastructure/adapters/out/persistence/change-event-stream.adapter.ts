@@ -0,0 +1,104 @@
+import { Inject, Injectable } from "@angular/core";
+import { Observable, Subscriber } from "rxjs";
+import { filter, share } from "rxjs/operators";
+import { ChangeEventStreamPort } from "@domain/ports/out/change-event-stream.port";
+import { TOKEN_STORAGE_PORT, TokenStoragePort } from "@domain/ports/out/token-storage.port";
+import { ChangeEvent } from "@model//change-event.model";
+import { environment } from "@env/environment";
+
+const RETRY_DELAY_MILLIS = 5000;
+
+@Injectable({
+  providedIn: "root"
+})
+export class ChangeEventStreamAdapter implements ChangeEventStreamPort {
+  private apiUrl = `${environment.apiUrl}/events`;
+  private readonly stream$: Observable<ChangeEvent>;
+
+  constructor(@Inject(TOKEN_STORAGE_PORT) private tokenStorage: TokenStoragePort) {
+    this.stream$ = new Observable<ChangeEvent>(subscriber => {
+      const controller = new AbortController();
+      this.connect(subscriber, controller.signal);
+      return () => controller.abort();
+    }).pipe(share());
+  }
+
+  events(resource: string): Observable<ChangeEvent> {
+    return this.stream$.pipe(filter(event => event.resource === resource));
+  }
+
+  private async connect(subscriber: Subscriber<ChangeEvent>, signal: AbortSignal): Promise<void> {
+    while (!signal.aborted) {
+      let retryDelay = RETRY_DELAY_MILLIS;
+      const token = this.tokenStorage.getToken();
+      if (token) {
+        try {
+          const response = await fetch(this.apiUrl, {
+            headers: { Authorization: `Bearer ${token}`, Accept: "text/event-stream" },
+            signal
+          });
+          if (response.ok && response.body) {
+            await this.read(response.body, subscriber);
+          } else {
+            retryDelay = this.retryAfter(response) ?? retryDelay;
+          }
+        } catch {
+          if (signal.aborted) {
+            return;
+          }
+        }
+      }
+      await this.wait(retryDelay, signal);
+    }
+  }
+
+  private async read(body: ReadableStream<Uint8Array>, subscriber: Subscriber<ChangeEvent>): Promise<void> {
+    const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = "";
+    while (true) {
+      const { value, done } = await reader.read();
+      if (done) {
+        return;
+      }
+      buffer += value.replace(/\r\n?/g, "\n");
+      let boundary = buffer.indexOf("\n\n");
+      while (boundary >= 0) {
+        this.dispatch(buffer.substring(0, boundary), subscriber);
+        buffer = buffer.substring(boundary + 2);
+        boundary = buffer.indexOf("\n\n");
+      }
+    }
+  }
+
+  private dispatch(block: string, subscriber: Subscriber<ChangeEvent>): void {
+    const data = block.split("\n")
+      .filter(line => line.startsWith("data:"))
+      .map(line => line.substring(5).trimStart())
+      .join("\n");
+    if (!data) {
+      return;
+    }
+    let event: ChangeEvent;
+    try {
+      event = JSON.parse(data) as ChangeEvent;
+    } catch {
+      return;
+    }
+    subscriber.next(event);
+  }
+
+  private retryAfter(response: Response): number | null {
+    const seconds = Number(response.headers.get("Retry-After"));
+    return seconds > 0 ? seconds * 1000 : null;
+  }
+
+  private wait(millis: number, signal: AbortSignal): Promise<void> {
+    return new Promise(resolve => {
+      const timeout = setTimeout(resolve, millis);
+      signal.addEventListener("abort", () => {
+        clearTimeout(timeout);
+        resolve();
+      }, { once: true });
+    });
+  }
+}
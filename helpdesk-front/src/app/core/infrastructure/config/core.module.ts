@@ -17,6 +17,8 @@ import { ThemeStorageAdapter } from "@adapters/out/persistence/local-storage-the
 import { JWT_DECODER_PORT } from "@core/domain/ports/out/jwt-decoder.port";
 import { JwtDecoderAdapter } from "@adapters/out/persistence/jwt-decoder.adapter";
 import { LoginUserCaseAdapter } from "@adapters/out/persistence/login.user.case.adapter";
+import { CHANGE_EVENT_STREAM_PORT } from "@domain/ports/out/change-event-stream.port";
+import { ChangeEventStreamAdapter } from "@adapters/out/persistence/change-event-stream.adapter";
 
 
 @NgModule({
@@ -38,7 +40,8 @@ import { LoginUserCaseAdapter } from "@adapters/out/persistence/login.user.case.
     { provide: TOKEN_STORAGE_PORT, useClass: LocalStorageTokenAdapter },
     { provide: THEME_USE_CASE_PORT, useClass: ThemeService },
     { provide: THEME_SERVICE_PORT, useClass: ThemeStorageAdapter },
-    { provide: JWT_DECODER_PORT, useClass: JwtDecoderAdapter }
+    { provide: JWT_DECODER_PORT, useClass: JwtDecoderAdapter },
+    { provide: CHANGE_EVENT_STREAM_PORT, useExisting: ChangeEventStreamAdapter }
 
   ]
 })